@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -23,7 +24,6 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -56,7 +56,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -68,6 +68,26 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}.
+     * An existing data file is read and saved in the format it is in, which is detected from the file, and a new
+     * one is created in the format chosen in {@code config}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = config.getAddressBookFormat();
+        try {
+            Optional<AddressBookFormat> detectedFormat = StorageManager.detectAddressBookFormat(filePath);
+            if (detectedFormat.isPresent()) {
+                logger.info("Data file " + filePath + " is in " + detectedFormat.get() + " format");
+                format = detectedFormat.get();
+            }
+        } catch (IOException e) {
+            logger.warning("Could not detect the format of data file " + filePath + ": " + StringUtil.getDetails(e));
+        }
+        return StorageManager.createAddressBookStorage(format, filePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -174,6 +194,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
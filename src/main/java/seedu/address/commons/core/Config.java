@@ -12,9 +12,26 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * The ways the address book can be stored in its data file.
+     */
+    public enum AddressBookFormat {
+        /** The whole address book is rewritten as json on every save. */
+        JSON,
+        /** A json snapshot, followed by a journal of the changes made since it was written. */
+        JOURNAL,
+        /** The whole address book is rewritten as a compact binary snapshot on every save. */
+        BINARY,
+        /** The whole address book is rewritten as a fixed-layout binary snapshot, which is decoded lazily when read. */
+        MAPPED,
+        /** Each list is kept in a json file of its own, which is rewritten only when the list changes. */
+        SHARDED
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +49,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +69,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(addressBookFormat, o.addressBookFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookFormat);
     }
 
     @Override
@@ -57,6 +83,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nAddress book format : " + addressBookFormat);
         return sb.toString();
     }
 
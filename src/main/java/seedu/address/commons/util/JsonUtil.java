@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,13 +45,82 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writes values into a generator that the caller flushes, rather than flushing the file after every value
+    private static volatile ObjectWriter valueWriter = createValueWriter();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        writeJsonFile(jsonFile, generator -> writeValue(generator, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (JsonParser parser = createJsonParser(jsonFile)) {
+            return objectMapper.readValue(parser, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Registers the serializers and deserializers in {@code module}, for types that are written and read by
+     * their own code rather than field by field.
+     */
+    public static synchronized void registerModule(Module module) {
+        objectMapper.registerModule(module);
+        // A writer keeps the serializers of the mapper it was created from
+        valueWriter = createValueWriter();
+    }
+
+    private static ObjectWriter createValueWriter() {
+        return objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Returns a parser that reads the given file one token at a time, without reading the whole file into memory.
+     * The parser must be closed after use.
+     */
+    public static JsonParser createJsonParser(Path jsonFile) throws IOException {
+        return createJsonParser(Files.newInputStream(jsonFile));
+    }
+
+    /**
+     * Returns a parser that reads {@code in} one token at a time. Closing the parser closes {@code in}.
+     */
+    public static JsonParser createJsonParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Reads the value that starts at the current token of {@code parser}, leaving the parser at its last token.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> valueClass) throws IOException {
+        return objectMapper.readValue(parser, valueClass);
+    }
+
+    /**
+     * Writes the Json written by {@code jsonWriter} to the specified file as it is generated, pretty-printed
+     * in the same way as {@link #toJsonString(Object)}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     */
+    public static void writeJsonFile(Path jsonFile, JsonWriter jsonWriter) throws IOException {
+        FileUtil.writeToFile(jsonFile, out -> writeJson(out, jsonWriter));
+    }
+
+    /**
+     * Writes the Json written by {@code jsonWriter} to {@code out} as it is generated, pretty-printed in the same
+     * way as {@link #toJsonString(Object)}, without closing {@code out}.
+     */
+    public static void writeJson(OutputStream out, JsonWriter jsonWriter) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .useDefaultPrettyPrinter();
+        jsonWriter.writeTo(generator);
+        generator.close();
+    }
+
+    /**
+     * Writes {@code value} as the next value of {@code generator}.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        valueWriter.writeValue(generator, value);
     }
 
     /**
@@ -110,6 +185,22 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without the whitespace added by {@link #toJsonString(Object)}
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes Json to a generator.
+     */
+    @FunctionalInterface
+    public interface JsonWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
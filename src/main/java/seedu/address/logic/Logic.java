@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -10,6 +11,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.cheese.Cheese;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
 
 /**
@@ -49,9 +51,9 @@ public interface Logic {
     ObservableList<Order> getFilteredOrderList();
 
     /**
-     * Returns a complete/unfiltered list of customers.
+     * Returns an unmodifiable view of all customers keyed by their ids.
      */
-    ObservableList<Customer> getCompleteCustomerList();
+    Map<CustomerId, Customer> getCustomerIdMap();
 
     /**
      * Returns the user prefs' address book file path.
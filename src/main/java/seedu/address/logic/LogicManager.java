@@ -2,9 +2,12 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -16,6 +19,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.cheese.Cheese;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
 import seedu.address.storage.Storage;
 
@@ -30,6 +34,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // The modification count of the address book last saved, or -1 if the next command must save it
+    private long savedModificationCount = -1;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -45,12 +52,35 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+        } finally {
+            // Changes made by a command that failed part way are committed too, so that they can be undone
+            model.commitAddressBook();
+        }
+
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount != savedModificationCount) {
+            storage.saveAddressBookInBackground(model.getAddressBookSnapshot());
+            savedModificationCount = modificationCount;
+        }
+
+        Optional<AddressBookFormat> addressBookFormat = commandResult.getAddressBookFormat();
+        if (addressBookFormat.isPresent()) {
+            try {
+                storage.convertAddressBook(model.getAddressBookSnapshot(), addressBookFormat.get());
+            } catch (IOException e) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + e, e);
+            }
+        }
+
+        // A save fails after the command that requested it has returned, so it is reported with the next command's
+        // result; the next command has already run, so its result is still returned
+        Optional<IOException> saveFailure = storage.takeAddressBookSaveFailure();
+        if (saveFailure.isPresent()) {
+            savedModificationCount = -1;
+            logger.warning(FILE_OPS_ERROR_MESSAGE + saveFailure.get());
+            return commandResult.withFeedbackAppended(FILE_OPS_ERROR_MESSAGE + saveFailure.get());
         }
 
         return commandResult;
@@ -77,8 +107,8 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Customer> getCompleteCustomerList() {
-        return model.getCompleteCustomerList();
+    public Map<CustomerId, Customer> getCustomerIdMap() {
+        return model.getCustomerIdMap();
     }
 
     @Override
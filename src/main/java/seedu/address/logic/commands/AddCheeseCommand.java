@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPIRY_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MANUFACTURE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MATURITY_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_QUANTITY;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CHEESES;
 
 import java.util.Arrays;
 
@@ -50,9 +51,13 @@ public class AddCheeseCommand extends AddCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        for (Cheese toAddCheese : toAddCheeses) {
-            model.addCheese(toAddCheese);
-        }
+        model.transaction(() -> {
+            for (Cheese toAddCheese : toAddCheeses) {
+                model.addCheese(toAddCheese);
+            }
+        });
+        // Outside the transaction, which holds back the additions from the filtered list until it ends
+        model.updateFilteredCheeseList(PREDICATE_SHOW_ALL_CHEESES);
         model.setPanelToCheeseList();
 
         StringBuilder sb = new StringBuilder(MESSAGE_SUCCESS);
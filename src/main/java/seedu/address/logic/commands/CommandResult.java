@@ -3,6 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.Config.AddressBookFormat;
 
 /**
  * Represents the result of a command execution.
@@ -17,13 +20,29 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The data file should be converted to this format, if it is not null. */
+    private final AddressBookFormat addressBookFormat;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
+        this(feedbackToUser, showHelp, exit, null);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that asks for the data file to be converted to {@code addressBookFormat}.
+     */
+    public CommandResult(String feedbackToUser, AddressBookFormat addressBookFormat) {
+        this(feedbackToUser, false, false, requireNonNull(addressBookFormat));
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit,
+            AddressBookFormat addressBookFormat) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.addressBookFormat = addressBookFormat;
     }
 
     /**
@@ -34,6 +53,14 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Returns a copy of this result with {@code message} shown on a new line after its feedback.
+     */
+    public CommandResult withFeedbackAppended(String message) {
+        requireNonNull(message);
+        return new CommandResult(feedbackToUser + "\n" + message, showHelp, exit, addressBookFormat);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -46,6 +73,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<AddressBookFormat> getAddressBookFormat() {
+        return Optional.ofNullable(addressBookFormat);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,12 +91,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(addressBookFormat, otherCommandResult.addressBookFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, addressBookFormat);
     }
 
 }
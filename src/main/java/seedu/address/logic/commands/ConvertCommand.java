@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Config.AddressBookFormat;
+import seedu.address.model.Model;
+
+/**
+ * Converts the data file to another format, which it is saved in from then on.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts the data file to the given format, "
+            + "which it is saved in from then on.\n"
+            + "Parameters: FORMAT (must be json, journal, binary, mapped or sharded)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_SUCCESS = "Data file converted to %1$s format";
+
+    private final AddressBookFormat format;
+
+    /**
+     * Creates a ConvertCommand to convert the data file to {@code format}.
+     */
+    public ConvertCommand(AddressBookFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // The conversion itself is done by the logic, which has access to the storage
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format.name().toLowerCase()), format);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ConvertCommand // instanceof handles nulls
+                && format == ((ConvertCommand) other).format);
+    }
+}
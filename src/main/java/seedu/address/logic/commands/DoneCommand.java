@@ -47,16 +47,19 @@ public class DoneCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_ORDER_COMPLETE);
         }
 
-        Set<CheeseId> unassignedCheeses = model.getUnassignedCheeses(orderToUpdate.getCheeseType(),
-            orderToUpdate.getQuantity());
         Quantity expectedQuantity = orderToUpdate.getQuantity();
-        if (!expectedQuantity.isSameQuantity(unassignedCheeses.size())) {
+        if (model.getUnassignedCheeseCount(orderToUpdate.getCheeseType()) < expectedQuantity.getQuantity()) {
             throw new CommandException(Messages.MESSAGE_INSUFFICIENT_CHEESES_FOR_ORDER);
         }
 
+        Set<CheeseId> unassignedCheeses = model.getUnassignedCheeses(orderToUpdate.getCheeseType(),
+            expectedQuantity);
+
         Order updatedOrder = createDoneOrder(orderToUpdate, unassignedCheeses, model);
-        model.setOrder(orderToUpdate, updatedOrder);
-        model.updateCheesesStatus(updatedOrder.getCheeses());
+        model.transaction(() -> {
+            model.setOrder(orderToUpdate, updatedOrder);
+            model.updateCheesesStatus(updatedOrder.getCheeses());
+        });
         model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
         model.setPanelToOrderList();
         return new CommandResult(String.format(MESSAGE_MARK_ORDER_DONE_SUCCESS, updatedOrder));
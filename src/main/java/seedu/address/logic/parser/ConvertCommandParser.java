@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.Config.AddressBookFormat;
+import seedu.address.logic.commands.ConvertCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ConvertCommand object
+ */
+public class ConvertCommandParser implements Parser<ConvertCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConvertCommand
+     * and returns a ConvertCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConvertCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        for (AddressBookFormat format : AddressBookFormat.values()) {
+            if (format.name().equalsIgnoreCase(trimmedArgs)) {
+                return new ConvertCommand(format);
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE));
+    }
+}
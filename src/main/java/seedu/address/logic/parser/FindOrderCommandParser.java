@@ -7,13 +7,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER_COMPLETION_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindOrderCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
 import seedu.address.model.util.predicate.CompositeFieldPredicateBuilder;
 
@@ -22,10 +23,10 @@ import seedu.address.model.util.predicate.CompositeFieldPredicateBuilder;
  */
 public class FindOrderCommandParser implements Parser<FindOrderCommand> {
 
-    private final List<Customer> customerList;
+    private final Map<CustomerId, Customer> customerIdMap;
 
-    public FindOrderCommandParser(List<Customer> customerList) {
-        this.customerList = customerList;
+    public FindOrderCommandParser(Map<CustomerId, Customer> customerIdMap) {
+        this.customerIdMap = customerIdMap;
     }
 
     /**
@@ -35,7 +36,7 @@ public class FindOrderCommandParser implements Parser<FindOrderCommand> {
      * @throws ParseException if the user input does not conform to the expected format.
      */
     public FindOrderCommand parse(String args) throws ParseException {
-        requireNonNull(customerList);
+        requireNonNull(customerIdMap);
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CHEESE_TYPE,
                 PREFIX_ORDER_COMPLETION_STATUS, PREFIX_PHONE, PREFIX_NAME);
@@ -54,12 +55,12 @@ public class FindOrderCommandParser implements Parser<FindOrderCommand> {
 
         Optional<String> phoneArg = argMultimap.getValue(PREFIX_PHONE);
         if (phoneArg.isPresent()) {
-            pBuilder.compose(ParserUtil.parseOrderPhoneKeywords(phoneArg.get(), customerList));
+            pBuilder.compose(ParserUtil.parseOrderPhoneKeywords(phoneArg.get(), customerIdMap));
         }
 
         Optional<String> nameArg = argMultimap.getValue(PREFIX_NAME);
         if (nameArg.isPresent()) {
-            pBuilder.compose(ParserUtil.parseOrderNameKeywords(nameArg.get(), customerList));
+            pBuilder.compose(ParserUtil.parseOrderNameKeywords(nameArg.get(), customerIdMap));
         }
 
         Optional<String> statusArg = argMultimap.getValue(PREFIX_ORDER_COMPLETION_STATUS);
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.StringUtil.splitToKeywordsList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -20,6 +21,7 @@ import seedu.address.model.cheese.predicates.CheeseAssignmentStatusPredicate;
 import seedu.address.model.cheese.predicates.CheeseCheeseTypePredicate;
 import seedu.address.model.customer.Address;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.customer.Email;
 import seedu.address.model.customer.Name;
 import seedu.address.model.customer.Phone;
@@ -34,6 +36,7 @@ import seedu.address.model.order.predicates.OrderCompletionStatusPredicate;
 import seedu.address.model.order.predicates.OrderNamePredicate;
 import seedu.address.model.order.predicates.OrderPhonePredicate;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -68,7 +71,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return ValueInterner.intern(new Name(trimmedName));
     }
 
     /**
@@ -98,7 +101,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return ValueInterner.intern(new Address(trimmedAddress));
     }
 
     /**
@@ -113,7 +116,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return ValueInterner.intern(new Email(trimmedEmail));
     }
 
     /**
@@ -128,7 +131,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return ValueInterner.intern(new Tag(trimmedTag));
     }
 
     /**
@@ -357,27 +360,29 @@ public class ParserUtil {
     /**
      * Parses a string of phone number keywords into a {@code OrderNamePredicate}.
      */
-    public static OrderNamePredicate parseOrderNameKeywords(String keywords, List<Customer> customerList)
+    public static OrderNamePredicate parseOrderNameKeywords(String keywords,
+                                                            Map<CustomerId, Customer> customerIdMap)
             throws ParseException {
         List<String> keywordsList = parseKeywordsIntoKeywordsList(
                 keywords,
                 OrderNamePredicate::isValidKeywords,
                 OrderNamePredicate.MESSAGE_CONSTRAINTS
         );
-        return new OrderNamePredicate(keywordsList, customerList);
+        return new OrderNamePredicate(keywordsList, customerIdMap);
     }
 
     /**
      * Parses a string of phone number keywords into a {@code OrderPhonePredicate}.
      */
-    public static OrderPhonePredicate parseOrderPhoneKeywords(String keywords, List<Customer> customerList)
+    public static OrderPhonePredicate parseOrderPhoneKeywords(String keywords,
+                                                              Map<CustomerId, Customer> customerIdMap)
             throws ParseException {
         List<String> keywordsList = parseKeywordsIntoKeywordsList(
                 keywords,
                 OrderPhonePredicate::isValidKeywords,
                 OrderPhonePredicate.MESSAGE_CONSTRAINTS
         );
-        return new OrderPhonePredicate(keywordsList, customerList);
+        return new OrderPhonePredicate(keywordsList, customerIdMap);
     }
 
     /**
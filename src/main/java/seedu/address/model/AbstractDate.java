@@ -49,6 +49,14 @@ public abstract class AbstractDate {
         value = dateTime;
     }
 
+    /**
+     * Constructs a {@code Date} with the given date time.
+     */
+    public AbstractDate(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        value = dateTime;
+    }
+
     /**
      * @param dateText A String containing date
      * @return null if date is invalid otherwise a LocalDateTime object of String date
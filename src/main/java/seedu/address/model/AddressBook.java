@@ -3,15 +3,16 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
+import seedu.address.model.AddressBookChange.Kind;
+import seedu.address.model.AddressBookChange.Section;
 import seedu.address.model.cheese.Cheese;
 import seedu.address.model.cheese.CheeseId;
 import seedu.address.model.cheese.CheeseType;
@@ -24,6 +25,10 @@ import seedu.address.model.order.Order;
 import seedu.address.model.order.OrderId;
 import seedu.address.model.order.Quantity;
 import seedu.address.model.order.UniqueOrderList;
+import seedu.address.model.util.IntObjectMap;
+import seedu.address.model.util.IntSet;
+import seedu.address.model.util.ListEditListener;
+import seedu.address.model.util.UndoLog;
 
 /**
  * Wraps all data at the address-book level
@@ -34,6 +39,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueCustomerList customers;
     private final UniqueOrderList orders;
     private final UniqueCheeseList cheeses;
+    private final UndoLog undoLog;
+    private AddressBookChange latestChange = AddressBookChange.start();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -43,9 +50,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      *   among constructors.
      */
     {
-        customers = new UniqueCustomerList();
-        orders = new UniqueOrderList();
-        cheeses = new UniqueCheeseList();
+        undoLog = new UndoLog();
+        customers = new UniqueCustomerList(undoLog, new ChangeRecorder<>(Section.CUSTOMERS));
+        orders = new UniqueOrderList(undoLog, new ChangeRecorder<>(Section.ORDERS));
+        cheeses = new UniqueCheeseList(undoLog, new ChangeRecorder<>(Section.CHEESES));
     }
 
     public AddressBook() {
@@ -91,9 +99,57 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setCustomers(newData.getCustomerList());
-        setOrders(newData.getOrderList());
-        setCheeses(newData.getCheeseList());
+        transaction(() -> {
+            setCustomers(newData.getCustomerList());
+            setOrders(newData.getOrderList());
+            setCheeses(newData.getCheeseList());
+        });
+    }
+
+    /**
+     * Runs {@code modifications} against this address book. Listeners of each list are notified of all the changes
+     * to that list in one change event, once every modification has been applied.
+     * Batches may be nested, in which case listeners are notified when the outermost batch completes.
+     */
+    public void batch(Runnable modifications) {
+        requireNonNull(modifications);
+        customers.batch(() -> orders.batch(() -> cheeses.batch(modifications)));
+    }
+
+    /**
+     * Runs {@code modifications} against this address book as a single batch that is applied entirely or not at all.
+     * If {@code modifications} throws, every change it made is undone before the exception is rethrown.
+     * Transactions may be nested, in which case they are rolled back together with the outermost transaction.
+     */
+    public void transaction(Runnable modifications) {
+        requireNonNull(modifications);
+        batch(() -> undoLog.runTransaction(modifications));
+    }
+
+    /**
+     * Starts or stops recording how to undo every modification to this address book, so that the modifications
+     * can later be undone together through {@code takeJournal()}. Stopping discards the records not yet taken.
+     */
+    public void setJournaling(boolean isJournaling) {
+        undoLog.setJournaling(isJournaling);
+    }
+
+    /**
+     * Returns an operation that undoes every modification made since journaling started or the journal was
+     * last taken, or an empty {@code Optional} if there were none.
+     * The operation must be run as a {@link #transaction(Runnable)} before any further modification is made.
+     */
+    public Optional<Runnable> takeJournal() {
+        return undoLog.takeJournal();
+    }
+
+    /**
+     * Returns an immutable copy of the current data of this address book, which later changes do not affect.
+     * The copy shares its structure with this address book, so taking it costs O(1) time. The first snapshot
+     * costs O(n), after which every modification also updates the shared structure in O(log n) time.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(customers.snapshot(), orders.snapshot(), cheeses.snapshot(), latestChange);
     }
 
     //// order-level operations
@@ -131,23 +187,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void deleteOrder(Order key) {
-        orders.delete(key);
-
-        // Cascade-delete the cheeses assigned to the deleted order
-        List<Cheese> cheesesToDelete = new ArrayList<>();
+        transaction(() -> {
+            orders.delete(key);
 
-        for (CheeseId cheeseId : key.getCheeses()) {
-            for (Cheese cheese : cheeses) {
-                if (cheese.getCheeseId().toString().equals(cheeseId.toString())) {
-                    cheesesToDelete.add(cheese);
-                    break;
-                }
-            }
-        }
-
-        for (Cheese cheese : cheesesToDelete) {
-            deleteCheese(cheese);
-        }
+            // Cascade-delete the cheeses assigned to the deleted order
+            cheeses.deleteCheeses(key.getCheeses());
+        });
     }
 
     /**
@@ -209,20 +254,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void deleteCustomer(Customer key) {
-        customers.delete(key);
+        transaction(() -> {
+            customers.delete(key);
 
-        // Cascade-delete orders belonging to the deleted customer
-        List<Order> ordersToDelete = new ArrayList<>();
-
-        for (Order order : orders) {
-            if (order.getCustomerId().toString().equals(key.getId().toString())) {
-                ordersToDelete.add(order);
+            // Cascade-delete orders belonging to the deleted customer, and the cheeses assigned to those orders
+            Set<CheeseId> cheesesToDelete = new HashSet<>();
+            for (Order order : orders.deleteOrdersOfCustomer(key.getId())) {
+                cheesesToDelete.addAll(order.getCheeses());
             }
-        }
-
-        for (Order order : ordersToDelete) {
-            deleteOrder(order);
-        }
+            cheeses.deleteCheeses(cheesesToDelete);
+        });
     }
 
     //// cheese-level operations
@@ -271,6 +312,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return cheeses.getCheeseWithId(cheeseId);
     }
 
+    /**
+     * Returns the number of unassigned cheeses of {@code cheeseType} in the address book.
+     */
+    public int getUnassignedCheeseCount(CheeseType cheeseType) {
+        requireNonNull(cheeseType);
+        return cheeses.getUnassignedCheeseCount(cheeseType);
+    }
+
     public Set<CheeseId> getUnassignedCheeses(CheeseType cheeseType, Quantity quantity) {
         return cheeses.getUnassignedCheeses(cheeseType, quantity);
     }
@@ -284,49 +333,51 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Includes checking dependencies between models
      */
     public void checkAddressBook() {
-        Set<CustomerId> customerIdSet = customers.asUnmodifiableObservableList().stream()
-            .map(x -> x.getId()).collect(Collectors.toSet());
-        Map<CheeseId, Cheese> cheeseIdMap = cheeses.asUnmodifiableObservableList().stream()
-            .collect(Collectors.toMap(x -> x.getCheeseId(), x -> x));
+        IntSet customerIdSet = new IntSet(customers.asUnmodifiableObservableList().size());
+        for (Customer customer : customers) {
+            customerIdSet.add(customer.getId().value);
+        }
+        IntObjectMap<Cheese> cheeseIdMap = new IntObjectMap<>(cheeses.asUnmodifiableObservableList().size());
+        for (Cheese cheese : cheeses) {
+            cheeseIdMap.put(cheese.getCheeseId().value, cheese);
+        }
 
-        HashSet<CheeseId> orderCheeseIdSet = new HashSet<>();
+        IntSet orderCheeseIdSet = new IntSet();
         // Check that each order is valid on the system level
-        for (Order order : orders.asUnmodifiableObservableList()) {
+        for (Order order : orders) {
             CustomerId customerId = order.getCustomerId();
             CheeseType expectedCheeseType = order.getCheeseType();
             Set<CheeseId> cheeseIds = order.getCheeses();
             OrderId orderId = order.getOrderId();
 
-            checkArgument(customerIdSet.contains(customerId),
+            checkArgument(customerIdSet.contains(customerId.value),
                 String.format(Messages.MESSAGE_INVALID_ORDER_CUSTOMER_ID, orderId.value));
 
-            if (cheeseIds.size() > 0) {
-                for (CheeseId cheeseId : cheeseIds) {
-                    checkArgument(cheeseIdMap.containsKey(cheeseId),
-                        String.format(Messages.MESSAGE_INVALID_ORDER_CHEESE_ID, orderId.value));
-
-                    // Each assigned cheese should have a one-to-one relation with orders
-                    checkArgument(!orderCheeseIdSet.contains(cheeseId),
-                        String.format(Messages.MESSAGE_INVALID_CHEESE_MULTIPLE_ORDER, orderId.value, cheeseId.value));
-                    orderCheeseIdSet.add(cheeseId);
-
-                    // Cheese should have been marked assigned
-                    checkArgument(cheeseIdMap.get(cheeseId).isCheeseAssigned(),
-                        String.format(Messages.MESSAGE_INVALID_CHEESE_NOT_ASSIGNED, orderId.value, cheeseId.value));
-
-                    // Cheese should match the order by type
-                    checkArgument(cheeseIdMap.get(cheeseId).getCheeseType().equals(expectedCheeseType),
-                        String.format(Messages.MESSAGE_INVALID_ORDER_CHEESE_CHEESE_TYPE,
-                            orderId.value, cheeseId.value));
-                }
+            for (CheeseId cheeseId : cheeseIds) {
+                Cheese cheese = cheeseIdMap.get(cheeseId.value);
+                checkArgument(cheese != null,
+                    String.format(Messages.MESSAGE_INVALID_ORDER_CHEESE_ID, orderId.value));
+
+                // Each assigned cheese should have a one-to-one relation with orders
+                checkArgument(orderCheeseIdSet.add(cheeseId.value),
+                    String.format(Messages.MESSAGE_INVALID_CHEESE_MULTIPLE_ORDER, orderId.value, cheeseId.value));
+
+                // Cheese should have been marked assigned
+                checkArgument(cheese.isCheeseAssigned(),
+                    String.format(Messages.MESSAGE_INVALID_CHEESE_NOT_ASSIGNED, orderId.value, cheeseId.value));
+
+                // Cheese should match the order by type
+                checkArgument(cheese.getCheeseType().equals(expectedCheeseType),
+                    String.format(Messages.MESSAGE_INVALID_ORDER_CHEESE_CHEESE_TYPE,
+                        orderId.value, cheeseId.value));
             }
         }
 
-        for (Cheese cheese: cheeseIdMap.values()) {
+        for (Cheese cheese : cheeses) {
             if (cheese.isCheeseAssigned()) {
                 CheeseId cheeseId = cheese.getCheeseId();
                 // Cheeses that are assigned must have an order attached to it
-                checkArgument(orderCheeseIdSet.contains(cheese.getCheeseId()),
+                checkArgument(orderCheeseIdSet.contains(cheeseId.value),
                     String.format(Messages.MESSAGE_INVALID_ASSIGNED_CHEESE, cheeseId.value));
             }
         }
@@ -353,6 +404,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return customers.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Map<CustomerId, Customer> getCustomerIdMap() {
+        return customers.asUnmodifiableIdMap();
+    }
+
     @Override
     public ObservableList<Order> getOrderList() {
         return orders.asUnmodifiableObservableList();
@@ -363,6 +419,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return cheeses.asUnmodifiableObservableList();
     }
 
+    @Override
+    public AddressBookChange getLatestChange() {
+        return latestChange;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -377,4 +438,35 @@ public class AddressBook implements ReadOnlyAddressBook {
         return customers.hashCode();
     }
 
+    /**
+     * Follows each modification of one of the lists with a change to this address book.
+     */
+    private class ChangeRecorder<T> implements ListEditListener<T> {
+        private final Section section;
+
+        private ChangeRecorder(Section section) {
+            this.section = section;
+        }
+
+        @Override
+        public void inserted(int index, T element) {
+            latestChange = latestChange.append(section, Kind.INSERT, index, element);
+        }
+
+        @Override
+        public void replaced(int index, T element) {
+            latestChange = latestChange.append(section, Kind.REPLACE, index, element);
+        }
+
+        @Override
+        public void removed(int index) {
+            latestChange = latestChange.append(section, Kind.REMOVE, index, null);
+        }
+
+        @Override
+        public void reset() {
+            latestChange = latestChange.append(section, Kind.RESET, -1, null);
+        }
+    }
+
 }
@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A modification of one of the lists of an address book, identified by the position it was made at.
+ * The changes to an address book are linked in the order they were made, so that the changes made since any earlier
+ * change can be followed, for example to save only those changes. Changes that are no longer referred to are
+ * garbage collected.
+ */
+public final class AddressBookChange {
+
+    /**
+     * The list of an address book that a change was made to.
+     */
+    public enum Section { CUSTOMERS, ORDERS, CHEESES }
+
+    /**
+     * What was done to the list.
+     * A {@code RESET} replaces every element of the list, and carries no element or position.
+     */
+    public enum Kind { INSERT, REPLACE, REMOVE, RESET }
+
+    private final long sequenceNumber;
+    private final Section section;
+    private final Kind kind;
+    private final int index;
+    private final Object element;
+
+    // Set once, on the thread modifying the address book, and possibly read on another
+    private volatile AddressBookChange next;
+
+    private AddressBookChange(long sequenceNumber, Section section, Kind kind, int index, Object element) {
+        this.sequenceNumber = sequenceNumber;
+        this.section = section;
+        this.kind = kind;
+        this.index = index;
+        this.element = element;
+    }
+
+    /**
+     * Returns a change that marks the creation of an address book, which every later change follows.
+     */
+    static AddressBookChange start() {
+        return new AddressBookChange(0, null, null, -1, null);
+    }
+
+    /**
+     * Creates the change that follows this one. This change must be the latest change to its address book.
+     */
+    AddressBookChange append(Section section, Kind kind, int index, Object element) {
+        requireAllNonNull(section, kind);
+        assert next == null : "Only the latest change can be followed by another";
+        next = new AddressBookChange(sequenceNumber + 1, section, kind, index, element);
+        return next;
+    }
+
+    /**
+     * Returns the changes made after this change, up to and including {@code latest}, in the order they were made.
+     * Returns an empty {@code Optional} if {@code latest} was not made to the same address book after this change.
+     */
+    public Optional<List<AddressBookChange>> getChangesUntil(AddressBookChange latest) {
+        if (latest.sequenceNumber < sequenceNumber) {
+            return Optional.empty();
+        }
+
+        List<AddressBookChange> changes = new ArrayList<>();
+        AddressBookChange change = this;
+        while (change != latest) {
+            change = change.next;
+            if (change == null || change.sequenceNumber > latest.sequenceNumber) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns the number of changes made to the address book up to and including this one.
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public Section getSection() {
+        return section;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the position in the list that the element was inserted at, replaced at or removed from.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the element that was inserted or that replaced the previous one, or null for other kinds of change.
+     */
+    public Object getElement() {
+        return element;
+    }
+
+    @Override
+    public String toString() {
+        return sequenceNumber + ": " + kind + " " + section + " at " + index;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.Order;
+
+/**
+ * An immutable view of the data of an address book at the moment the snapshot was taken.
+ * The lists are shared with the address book rather than copied, and never change, so a snapshot may be read
+ * from any thread while the address book goes on being modified.
+ *
+ * @see AddressBook#snapshot()
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final List<Customer> customers;
+    private final List<Order> orders;
+    private final List<Cheese> cheeses;
+    private final AddressBookChange latestChange;
+
+    // Built the first time it is asked for, as most snapshots are only ever iterated over
+    private volatile Map<CustomerId, Customer> customerIdMap;
+
+    /**
+     * Every list must be immutable.
+     */
+    AddressBookSnapshot(List<Customer> customers, List<Order> orders, List<Cheese> cheeses,
+            AddressBookChange latestChange) {
+        requireAllNonNull(customers, orders, cheeses, latestChange);
+        this.customers = customers;
+        this.orders = orders;
+        this.cheeses = cheeses;
+        this.latestChange = latestChange;
+    }
+
+    @Override
+    public ObservableList<Customer> getCustomerList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(customers));
+    }
+
+    @Override
+    public ObservableList<Order> getOrderList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(orders));
+    }
+
+    @Override
+    public ObservableList<Cheese> getCheeseList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(cheeses));
+    }
+
+    /**
+     * Returns the customers of the snapshot keyed by their ids.
+     * Unlike the map of an {@code AddressBook}, it does not reflect later changes.
+     */
+    @Override
+    public Map<CustomerId, Customer> getCustomerIdMap() {
+        if (customerIdMap == null) {
+            Map<CustomerId, Customer> map = new HashMap<>();
+            for (Customer customer : customers) {
+                map.put(customer.getId(), customer);
+            }
+            customerIdMap = Collections.unmodifiableMap(map);
+        }
+        return customerIdMap;
+    }
+
+    @Override
+    public AddressBookChange getLatestChange() {
+        return latestChange;
+    }
+
+    @Override
+    public String toString() {
+        return customers.size() + " customers, " + cheeses.size() + " cheeses, " + orders.size() + " orders";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && customers.equals(((AddressBookSnapshot) other).customers)
+                && cheeses.equals(((AddressBookSnapshot) other).cheeses)
+                && orders.equals(((AddressBookSnapshot) other).orders));
+    }
+
+    @Override
+    public int hashCode() {
+        return customers.hashCode();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static seedu.address.model.util.predicate.FieldPredicate.getDefaultPredicate;
 
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
@@ -11,6 +12,7 @@ import seedu.address.model.cheese.Cheese;
 import seedu.address.model.cheese.CheeseId;
 import seedu.address.model.cheese.CheeseType;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.customer.Phone;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.OrderId;
@@ -69,6 +71,60 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the address book as it is now, which may be read from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the number of modifications made to the address book so far.
+     * The address book is unchanged between two calls that return the same number.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Runs {@code modifications} against the address book, notifying listeners of each list of all the changes
+     * to it in one change event, once every modification has been applied.
+     * The predicates of the filtered lists must not be changed inside a batch: a filtered list refilters its
+     * source at once, then sees the batched changes again when they are notified. Change them after the batch;
+     * changing them inside it throws {@code IllegalStateException}.
+     */
+    void batch(Runnable modifications);
+
+    /**
+     * Runs {@code modifications} against the address book as a batch that is applied entirely or not at all.
+     * If {@code modifications} throws, every change it made to the address book is undone before the exception
+     * is rethrown. As with {@link #batch(Runnable)}, the predicates of the filtered lists must not be changed
+     * inside a transaction.
+     */
+    void transaction(Runnable modifications);
+
+    /**
+     * Ends the current command, saving the changes it made to the address book so that they can be undone.
+     * Does nothing if the address book was not changed.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the most recent committed change to the address book that has not been undone.
+     */
+    void undoAddressBook();
+
+    /**
+     * Redoes the most recently undone change to the address book.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a customer with the same identity as {@code customer} exists in the address book.
      */
@@ -105,9 +161,9 @@ public interface Model {
     void setCustomer(Customer target, Customer editedCustomer);
 
     /**
-     * Returns a complete/unfiltered list of customers.
+     * Returns an unmodifiable view of all customers keyed by their ids.
      */
-    ObservableList<Customer> getCompleteCustomerList();
+    Map<CustomerId, Customer> getCustomerIdMap();
 
     /**
      * Returns true if a Order with the same identity as {@code order} exists in the address book.
@@ -169,6 +225,11 @@ public interface Model {
      */
     Cheese getCheeseWithId(CheeseId cheeseId);
 
+    /**
+     * Returns the number of unassigned cheeses with given cheeseType.
+     */
+    int getUnassignedCheeseCount(CheeseType cheeseType);
+
     /**
      * Return Unassigned cheeses with given cheeseType.
      */
@@ -200,6 +261,7 @@ public interface Model {
      * Updates the filter of the filtered customer list to filter by the given {@code predicate}.
      *
      * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalStateException if called inside a {@link #batch(Runnable)} or {@link #transaction(Runnable)}.
      */
     void updateFilteredCustomerList(FieldPredicate<Customer> predicate);
 
@@ -207,6 +269,7 @@ public interface Model {
      * Updates the filter of the filtered order list to filter by the given {@code predicate}.
      *
      * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalStateException if called inside a {@link #batch(Runnable)} or {@link #transaction(Runnable)}.
      */
     void updateFilteredOrderList(FieldPredicate<Order> predicate);
 
@@ -214,6 +277,7 @@ public interface Model {
      * Updates the filter of the filtered cheese list to filter by the given {@code predicate}.
      *
      * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalStateException if called inside a {@link #batch(Runnable)} or {@link #transaction(Runnable)}.
      */
     void updateFilteredCheeseList(FieldPredicate<Cheese> predicate);
 
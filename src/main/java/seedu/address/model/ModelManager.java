@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -14,6 +17,7 @@ import seedu.address.model.cheese.Cheese;
 import seedu.address.model.cheese.CheeseId;
 import seedu.address.model.cheese.CheeseType;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.customer.Phone;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.OrderId;
@@ -26,6 +30,8 @@ import seedu.address.model.util.predicate.FieldPredicate;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    // The number of changes to the address book that can be undone
+    private static final int UNDO_HISTORY_LIMIT = 50;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
@@ -33,6 +39,12 @@ public class ModelManager implements Model {
     private final FilteredSortedList<Order> filteredAndSortedOrders;
     private final FilteredSortedList<Cheese> filteredAndSortedCheeses;
 
+    // Operations that undo, or redo, the changes made by each command, most recent first
+    private final Deque<Runnable> undoHistory = new ArrayDeque<>();
+    private final Deque<Runnable> redoHistory = new ArrayDeque<>();
+    // The number of batches, or transactions, being run, in which the filtered lists' predicates must not change
+    private int openBatchCount;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -43,6 +55,7 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        this.addressBook.setJournaling(true);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredAndSortedCustomers = new FilteredSortedList<>(this.addressBook.getCustomerList());
         filteredAndSortedOrders = new FilteredSortedList<>(this.addressBook.getOrderList());
@@ -100,6 +113,81 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        // Every modification of the address book is recorded as a change that follows the previous one
+        return addressBook.getLatestChange().getSequenceNumber();
+    }
+
+    @Override
+    public void batch(Runnable modifications) {
+        openBatchCount++;
+        try {
+            addressBook.batch(modifications);
+        } finally {
+            openBatchCount--;
+        }
+    }
+
+    @Override
+    public void transaction(Runnable modifications) {
+        openBatchCount++;
+        try {
+            addressBook.transaction(modifications);
+        } finally {
+            openBatchCount--;
+        }
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.takeJournal().ifPresent(undoOperation -> {
+            undoHistory.push(undoOperation);
+            if (undoHistory.size() > UNDO_HISTORY_LIMIT) {
+                undoHistory.removeLast();
+            }
+            redoHistory.clear();
+        });
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return !undoHistory.isEmpty();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return !redoHistory.isEmpty();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        revert(undoHistory, redoHistory);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        revert(redoHistory, undoHistory);
+    }
+
+    /**
+     * Runs the most recent operation in {@code from}, and saves the operation that reverts it in turn to {@code to}.
+     * Since each operation only touches the entries its command changed, this takes time proportional to the size
+     * of that change rather than of the address book.
+     */
+    private void revert(Deque<Runnable> from, Deque<Runnable> to) {
+        if (from.isEmpty()) {
+            throw new IllegalStateException("No change to revert");
+        }
+        addressBook.transaction(from.pop());
+        addressBook.takeJournal().ifPresent(to::push);
+    }
+
     //=========== Customer Operations ==========================================================================
 
     @Override
@@ -139,8 +227,8 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<Customer> getCompleteCustomerList() {
-        return addressBook.getCustomerList();
+    public Map<CustomerId, Customer> getCustomerIdMap() {
+        return addressBook.getCustomerIdMap();
     }
 
     //=========== Order Operations ==========================================================================
@@ -191,7 +279,6 @@ public class ModelManager implements Model {
     @Override
     public void addCheese(Cheese cheese) {
         addressBook.addCheese(cheese);
-        updateFilteredCheeseList(PREDICATE_SHOW_ALL_CHEESES);
     }
 
     @Override
@@ -208,6 +295,12 @@ public class ModelManager implements Model {
         return addressBook.getCheeseWithId(cheeseId);
     }
 
+    @Override
+    public int getUnassignedCheeseCount(CheeseType cheeseType) {
+        requireNonNull(cheeseType);
+        return addressBook.getUnassignedCheeseCount(cheeseType);
+    }
+
     @Override
     public Set<CheeseId> getUnassignedCheeses(CheeseType cheeseType, Quantity quantity) {
         return addressBook.getUnassignedCheeses(cheeseType, quantity);
@@ -251,21 +344,34 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredCustomerList(FieldPredicate<Customer> predicate) {
         requireNonNull(predicate);
+        requireNoOpenBatch();
         filteredAndSortedCustomers.setModelPredicate(predicate);
     }
 
     @Override
     public void updateFilteredOrderList(FieldPredicate<Order> predicate) {
         requireNonNull(predicate);
+        requireNoOpenBatch();
         filteredAndSortedOrders.setModelPredicate(predicate);
     }
 
     @Override
     public void updateFilteredCheeseList(FieldPredicate<Cheese> predicate) {
         requireNonNull(predicate);
+        requireNoOpenBatch();
         filteredAndSortedCheeses.setModelPredicate(predicate);
     }
 
+    /**
+     * Throws {@code IllegalStateException} if a batch is being run, as a filtered list whose predicate changes
+     * inside one would list the batched changes twice.
+     */
+    private void requireNoOpenBatch() {
+        if (openBatchCount > 0) {
+            throw new IllegalStateException("The filtered lists cannot be changed inside a batch");
+        }
+    }
+
     //=========== For Toggling UI Panel ==================================================================
 
     @Override
@@ -1,8 +1,11 @@
 package seedu.address.model;
 
+import java.util.Map;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.cheese.Cheese;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
 
 /**
@@ -28,4 +31,15 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Cheese> getCheeseList();
 
+    /**
+     * Returns an unmodifiable view of the customers keyed by their ids.
+     * The map reflects this address book's current customers; the map of a snapshot never changes.
+     */
+    Map<CustomerId, Customer> getCustomerIdMap();
+
+    /**
+     * Returns the latest change made to the address book, from which the changes made after it can be followed.
+     */
+    AddressBookChange getLatestChange();
+
 }
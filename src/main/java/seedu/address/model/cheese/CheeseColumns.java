@@ -0,0 +1,378 @@
+package seedu.address.model.cheese;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.ObjIntConsumer;
+
+import seedu.address.model.AbstractDate;
+import seedu.address.model.util.IntIntMap;
+
+/**
+ * A list of cheeses stored field by field in parallel primitive arrays, rather than as {@code Cheese} objects.
+ * Each cheese occupies a slot of the arrays until it is removed, and the list order is kept as a separate array of
+ * slots, so that inserting or removing a cheese only shifts that array. A {@code Cheese} is created from its slot
+ * whenever one is asked for.
+ */
+class CheeseColumns {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Fields of the cheese in each slot
+    private int[] ids;
+    private int[] typeOrdinals;
+    private final DateColumn manufactureDates;
+    private final DateColumn maturityDates;
+    private final DateColumn expiryDates;
+    private final BitSet assigned = new BitSet();
+    private int slotCount;
+    private int[] freeSlots = new int[0];
+    private int freeSlotCount;
+
+    // The slot of the cheese at each position of the list
+    private int[] order;
+    private int size;
+
+    private final IntIntMap idToSlot = new IntIntMap();
+    // The position of the cheese in each slot.
+    // Positions at or after positionsStaleFrom may be out of date after an insertion or removal, and are refreshed
+    // on demand.
+    private int[] positions;
+    private int positionsStaleFrom = 0;
+
+    // The cheese types in use, indexed by ordinal. Holding them keeps their ordinals from being reused.
+    private CheeseType[] types = new CheeseType[0];
+    private int[] typeCounts = new int[0];
+
+    CheeseColumns() {
+        ids = new int[DEFAULT_CAPACITY];
+        typeOrdinals = new int[DEFAULT_CAPACITY];
+        manufactureDates = new DateColumn(DEFAULT_CAPACITY);
+        maturityDates = new DateColumn(DEFAULT_CAPACITY);
+        expiryDates = new DateColumn(DEFAULT_CAPACITY);
+        positions = new int[DEFAULT_CAPACITY];
+        order = new int[DEFAULT_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the cheese at {@code index} of the list.
+     */
+    Cheese get(int index) {
+        return cheeseAt(slotAt(index));
+    }
+
+    /**
+     * Returns the slot of the cheese at {@code index} of the list.
+     */
+    int slotAt(int index) {
+        Objects.checkIndex(index, size);
+        return order[index];
+    }
+
+    /**
+     * Returns the slot of the cheese with {@code id}, or -1 if there is none.
+     */
+    int slotOfId(int id) {
+        return idToSlot.getOrDefault(id, -1);
+    }
+
+    /**
+     * Returns the position in the list of the cheese in {@code slot}.
+     */
+    int indexOfSlot(int slot) {
+        if (positions[slot] >= positionsStaleFrom) {
+            for (int i = positionsStaleFrom; i < size; i++) {
+                positions[order[i]] = i;
+            }
+            positionsStaleFrom = size;
+        }
+        return positions[slot];
+    }
+
+    /**
+     * Creates the cheese stored in {@code slot}.
+     */
+    Cheese cheeseAt(int slot) {
+        LocalDateTime maturityDate = maturityDates.get(slot);
+        LocalDateTime expiryDate = expiryDates.get(slot);
+        return new Cheese(types[typeOrdinals[slot]],
+                new ManufactureDate(manufactureDates.get(slot)),
+                maturityDate == null ? null : new MaturityDate(maturityDate),
+                expiryDate == null ? null : new ExpiryDate(expiryDate),
+                CheeseId.valueOf(ids[slot]),
+                assigned.get(slot));
+    }
+
+    int idAt(int slot) {
+        return ids[slot];
+    }
+
+    CheeseType typeAt(int slot) {
+        return types[typeOrdinals[slot]];
+    }
+
+    boolean isAssignedAt(int slot) {
+        return assigned.get(slot);
+    }
+
+    /**
+     * Returns true if the cheese in {@code slot} is equal to {@code cheese}, as in {@code Cheese#equals(Object)}.
+     */
+    boolean matches(int slot, Cheese cheese) {
+        return ids[slot] == cheese.getCheeseId().value
+                && types[typeOrdinals[slot]].equals(cheese.getCheeseType())
+                && manufactureDates.matches(slot, cheese.getManufactureDate())
+                && maturityDates.matches(slot, cheese.getMaturityDate().orElse(null))
+                && expiryDates.matches(slot, cheese.getExpiryDate().orElse(null));
+    }
+
+    /**
+     * Compares the cheeses in two slots by expiry date, with cheeses without an expiry date last, then by id.
+     */
+    int compareByExpiry(int slot, int otherSlot) {
+        int result = expiryDates.compare(slot, otherSlot);
+        return result != 0 ? result : Integer.compare(ids[slot], ids[otherSlot]);
+    }
+
+    /**
+     * Compares the cheeses in two slots by maturity date, with cheeses without a maturity date last, then by id.
+     */
+    int compareByMaturity(int slot, int otherSlot) {
+        int result = maturityDates.compare(slot, otherSlot);
+        return result != 0 ? result : Integer.compare(ids[slot], ids[otherSlot]);
+    }
+
+    /**
+     * Returns true if the cheese in {@code slot} has matured by {@code now}, or has no maturity date.
+     */
+    boolean isMaturedAt(int slot, LocalDateTime now) {
+        return !maturityDates.isPresent(slot) || !maturityDates.isAfter(slot, now);
+    }
+
+    /**
+     * Inserts {@code cheese} at {@code index} of the list.
+     * No cheese with the same id may already be in the list.
+     */
+    void add(int index, Cheese cheese) {
+        requireNonNull(cheese);
+        Objects.checkIndex(index, size + 1);
+
+        int slot = allocateSlot();
+        write(slot, cheese);
+        idToSlot.put(ids[slot], slot);
+
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size * 2);
+        }
+        System.arraycopy(order, index, order, index + 1, size - index);
+        order[index] = slot;
+        size++;
+
+        positions[slot] = index;
+        if (positionsStaleFrom == index && index == size - 1) {
+            positionsStaleFrom++;
+        } else {
+            positionsStaleFrom = Math.min(positionsStaleFrom, index);
+        }
+    }
+
+    /**
+     * Replaces the cheese at {@code index} of the list with {@code cheese}.
+     * No other cheese in the list may have the same id as {@code cheese}.
+     */
+    void set(int index, Cheese cheese) {
+        requireNonNull(cheese);
+        int slot = slotAt(index);
+        idToSlot.remove(ids[slot]);
+        releaseType(typeOrdinals[slot]);
+        write(slot, cheese);
+        idToSlot.put(ids[slot], slot);
+    }
+
+    /**
+     * Removes the cheese at {@code index} of the list.
+     */
+    void remove(int index) {
+        int slot = slotAt(index);
+        System.arraycopy(order, index + 1, order, index, size - index - 1);
+        size--;
+        positionsStaleFrom = Math.min(positionsStaleFrom, index);
+        releaseSlot(slot);
+    }
+
+    /**
+     * Removes the cheeses whose slots match {@code filter} in a single pass over the list.
+     * {@code onRemoved} is given each removed cheese and its position, counting only the cheeses that remain before it.
+     * Returns true if any cheese was removed.
+     */
+    boolean removeIf(IntPredicate filter, ObjIntConsumer<Cheese> onRemoved) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = order[i];
+            if (filter.test(slot)) {
+                onRemoved.accept(cheeseAt(slot), kept);
+                releaseSlot(slot);
+            } else {
+                order[kept++] = slot;
+            }
+        }
+
+        boolean isChanged = kept < size;
+        size = kept;
+        positionsStaleFrom = 0;
+        return isChanged;
+    }
+
+    /**
+     * Returns an unmodifiable view of this list, which creates each cheese as it is accessed.
+     */
+    List<Cheese> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Cheese get(int index) {
+                return CheeseColumns.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Stores the fields of {@code cheese} in {@code slot}.
+     */
+    private void write(int slot, Cheese cheese) {
+        ids[slot] = cheese.getCheeseId().value;
+        typeOrdinals[slot] = acquireType(cheese.getCheeseType());
+        manufactureDates.set(slot, cheese.getManufactureDate());
+        maturityDates.set(slot, cheese.getMaturityDate().orElse(null));
+        expiryDates.set(slot, cheese.getExpiryDate().orElse(null));
+        assigned.set(slot, cheese.isCheeseAssigned());
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+
+        if (slotCount == ids.length) {
+            int capacity = slotCount * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            typeOrdinals = Arrays.copyOf(typeOrdinals, capacity);
+            manufactureDates.grow(capacity);
+            maturityDates.grow(capacity);
+            expiryDates.grow(capacity);
+            positions = Arrays.copyOf(positions, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void releaseSlot(int slot) {
+        idToSlot.remove(ids[slot]);
+        releaseType(typeOrdinals[slot]);
+        assigned.clear(slot);
+
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(DEFAULT_CAPACITY, freeSlotCount * 2));
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Records a cheese of {@code cheeseType}, and returns the type's ordinal.
+     */
+    private int acquireType(CheeseType cheeseType) {
+        int ordinal = cheeseType.getOrdinal();
+        if (ordinal >= types.length) {
+            int capacity = Math.max(ordinal + 1, types.length * 2);
+            types = Arrays.copyOf(types, capacity);
+            typeCounts = Arrays.copyOf(typeCounts, capacity);
+        }
+        types[ordinal] = cheeseType;
+        typeCounts[ordinal]++;
+        return ordinal;
+    }
+
+    private void releaseType(int ordinal) {
+        if (--typeCounts[ordinal] == 0) {
+            types[ordinal] = null;
+        }
+    }
+
+    /**
+     * A column of optional dates, each stored as its epoch second and nano of second.
+     */
+    private static class DateColumn {
+        // Marks a slot without a date, as no LocalDateTime is this far from the epoch
+        private static final long NO_DATE = Long.MIN_VALUE;
+
+        private long[] seconds;
+        private int[] nanos;
+
+        DateColumn(int capacity) {
+            seconds = new long[capacity];
+            nanos = new int[capacity];
+        }
+
+        void grow(int capacity) {
+            seconds = Arrays.copyOf(seconds, capacity);
+            nanos = Arrays.copyOf(nanos, capacity);
+        }
+
+        void set(int slot, AbstractDate date) {
+            if (date == null) {
+                seconds[slot] = NO_DATE;
+                nanos[slot] = 0;
+            } else {
+                seconds[slot] = date.value.toEpochSecond(ZoneOffset.UTC);
+                nanos[slot] = date.value.getNano();
+            }
+        }
+
+        boolean isPresent(int slot) {
+            return seconds[slot] != NO_DATE;
+        }
+
+        /**
+         * Returns the date in {@code slot}, or null if there is none.
+         */
+        LocalDateTime get(int slot) {
+            return isPresent(slot) ? LocalDateTime.ofEpochSecond(seconds[slot], nanos[slot], ZoneOffset.UTC) : null;
+        }
+
+        boolean matches(int slot, AbstractDate date) {
+            if (date == null) {
+                return !isPresent(slot);
+            }
+            return seconds[slot] == date.value.toEpochSecond(ZoneOffset.UTC) && nanos[slot] == date.value.getNano();
+        }
+
+        boolean isAfter(int slot, LocalDateTime dateTime) {
+            long otherSeconds = dateTime.toEpochSecond(ZoneOffset.UTC);
+            return seconds[slot] > otherSeconds || (seconds[slot] == otherSeconds && nanos[slot] > dateTime.getNano());
+        }
+
+        /**
+         * Compares the dates in two slots, with slots without a date last.
+         */
+        int compare(int slot, int otherSlot) {
+            if (isPresent(slot) != isPresent(otherSlot)) {
+                return isPresent(slot) ? -1 : 1;
+            }
+            int result = Long.compare(seconds[slot], seconds[otherSlot]);
+            return result != 0 ? result : Integer.compare(nanos[slot], nanos[otherSlot]);
+        }
+    }
+}
@@ -26,6 +26,13 @@ public class CheeseId extends AbstractId<CheeseId> {
     }
 
 
+    /**
+     * Returns the {@code CheeseId} with the given value, without affecting the next id to be generated.
+     */
+    public static CheeseId valueOf(int id) {
+        return new CheeseId(id);
+    }
+
     private static void updateNextId(CheeseId otherId) {
         if (nextId <= otherId.value) {
             nextId = otherId.value + 1;
@@ -0,0 +1,85 @@
+package seedu.address.model.cheese;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The unassigned cheeses of a single {@code CheeseType}, kept in the order they should be allocated to orders.
+ * Matured cheeses are allocated soonest expiry first, with cheeses without an expiry date last.
+ * Cheeses that have not matured yet are held back, and become eligible once their maturity date has passed.
+ * Cheeses are referred to by their slots in the columns of a {@code ColumnarCheeseList}, so a cheese must be removed
+ * from the pool before it is removed from the list.
+ */
+class CheesePool {
+
+    private final ColumnarCheeseList cheeses;
+    private final NavigableSet<Integer> eligibleSlots;
+    private final NavigableSet<Integer> maturingSlots;
+
+    CheesePool(ColumnarCheeseList cheeses) {
+        this.cheeses = requireNonNull(cheeses);
+        eligibleSlots = new TreeSet<>((slot, otherSlot) -> cheeses.getColumns().compareByExpiry(slot, otherSlot));
+        maturingSlots = new TreeSet<>((slot, otherSlot) -> cheeses.getColumns().compareByMaturity(slot, otherSlot));
+    }
+
+    /**
+     * Adds the unassigned cheese in {@code slot} to the pool.
+     */
+    void add(int slot, LocalDateTime now) {
+        if (cheeses.getColumns().isMaturedAt(slot, now)) {
+            eligibleSlots.add(slot);
+        } else {
+            maturingSlots.add(slot);
+        }
+    }
+
+    /**
+     * Removes the cheese in {@code slot} from the pool, if present.
+     */
+    void remove(int slot) {
+        if (!eligibleSlots.remove(slot)) {
+            maturingSlots.remove(slot);
+        }
+    }
+
+    /**
+     * Returns the number of cheeses in the pool that can be allocated at {@code now}.
+     */
+    int countEligible(LocalDateTime now) {
+        promoteMaturedCheeses(now);
+        return eligibleSlots.size();
+    }
+
+    /**
+     * Returns the ids of up to {@code quantity} cheeses that can be allocated at {@code now},
+     * soonest expiry first. The cheeses are not removed from the pool.
+     */
+    Set<CheeseId> getEligible(int quantity, LocalDateTime now) {
+        promoteMaturedCheeses(now);
+        Set<CheeseId> cheeseIds = new HashSet<>();
+        Iterator<Integer> iterator = eligibleSlots.iterator();
+        for (int c = quantity; c > 0 && iterator.hasNext(); c--) {
+            cheeseIds.add(CheeseId.valueOf(cheeses.getColumns().idAt(iterator.next())));
+        }
+        return cheeseIds;
+    }
+
+    boolean isEmpty() {
+        return eligibleSlots.isEmpty() && maturingSlots.isEmpty();
+    }
+
+    /**
+     * Moves the cheeses that have matured by {@code now} into the eligible set.
+     */
+    private void promoteMaturedCheeses(LocalDateTime now) {
+        while (!maturingSlots.isEmpty() && cheeses.getColumns().isMaturedAt(maturingSlots.first(), now)) {
+            eligibleSlots.add(maturingSlots.pollFirst());
+        }
+    }
+}
@@ -3,30 +3,45 @@ package seedu.address.model.cheese;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Represents a Cheese's type in the Cheese Inventory Management System (CHIM).
- * Guarantees: immutable
+ * Guarantees: immutable; there is at most one live instance of each cheese type
+ *
+ * Each live cheese type has a small ordinal that no other live cheese type shares, so that per-type data can be
+ * kept in arrays. Cheese types are held weakly by the registry, so a type that is no longer used by any cheese
+ * or order is dropped once garbage collected, and its ordinal is reused.
  */
 public class CheeseType {
     public static final String MESSAGE_CONSTRAINTS = "Cheese type can take any values, and it should not be blank";
     public static final String VALIDATION_REGEX = "[\\w]+[\\s&\\w+]*";
-    private static final Map<String, CheeseType> typeToCheeseMap = new HashMap<>();
+
+    private static final ConcurrentMap<String, TypeReference> typeToCheeseMap = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<CheeseType> droppedTypes = new ReferenceQueue<>();
+    // Guarded by the class lock
+    private static final BitSet usedOrdinals = new BitSet();
 
     public final String value;
+    private final int ordinal;
 
     /**
      * Constructs a {@code CheeseType}.
      *
      * @param type A valid cheese type.
      */
-    private CheeseType(String type) {
+    private CheeseType(String type, int ordinal) {
         requireNonNull(type);
         checkArgument(isValidType(type), MESSAGE_CONSTRAINTS);
         value = type;
+        this.ordinal = ordinal;
     }
 
     /**
@@ -36,17 +51,70 @@ public class CheeseType {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the cheese type {@code type}, creating it if it does not exist yet.
+     * Safe to call from multiple threads.
+     */
     public static CheeseType getCheeseType(String type) {
-        if (typeToCheeseMap.containsKey(type)) {
-            return typeToCheeseMap.get(type);
+        requireNonNull(type);
+        TypeReference reference = typeToCheeseMap.get(type);
+        CheeseType cheeseType = reference == null ? null : reference.get();
+        if (cheeseType != null) {
+            return cheeseType;
         }
-        CheeseType newCheeseType = new CheeseType(type);
-        typeToCheeseMap.put(type, newCheeseType);
-        return newCheeseType;
+
+        checkArgument(isValidType(type), MESSAGE_CONSTRAINTS);
+        releaseDroppedTypes();
+        CheeseType[] result = new CheeseType[1];
+        typeToCheeseMap.compute(type, (key, existing) -> {
+            result[0] = existing == null ? null : existing.get();
+            if (result[0] != null) {
+                return existing;
+            }
+            result[0] = new CheeseType(key, acquireOrdinal());
+            return new TypeReference(result[0], droppedTypes);
+        });
+        return result[0];
     }
 
+    /**
+     * Returns a snapshot of the cheese types currently in use, keyed by their values.
+     */
     public static Map<String, CheeseType> getReadOnlyCheeseTypeMap() {
-        return Collections.unmodifiableMap(typeToCheeseMap);
+        Map<String, CheeseType> cheeseTypes = new HashMap<>();
+        typeToCheeseMap.forEach((type, reference) -> {
+            CheeseType cheeseType = reference.get();
+            if (cheeseType != null) {
+                cheeseTypes.put(type, cheeseType);
+            }
+        });
+        return Collections.unmodifiableMap(cheeseTypes);
+    }
+
+    /**
+     * Returns the ordinal of this cheese type, a small non-negative integer that no other cheese type in use shares.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    private static synchronized int acquireOrdinal() {
+        int ordinal = usedOrdinals.nextClearBit(0);
+        usedOrdinals.set(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Removes the cheese types that have been garbage collected, and frees their ordinals.
+     */
+    private static void releaseDroppedTypes() {
+        TypeReference reference;
+        while ((reference = (TypeReference) droppedTypes.poll()) != null) {
+            typeToCheeseMap.remove(reference.type, reference);
+            synchronized (CheeseType.class) {
+                usedOrdinals.clear(reference.ordinal);
+            }
+        }
     }
 
     @Override
@@ -66,4 +134,17 @@ public class CheeseType {
         return value.hashCode();
     }
 
+    /**
+     * A weak reference to a registered cheese type, which remembers what to release once the type is dropped.
+     */
+    private static class TypeReference extends WeakReference<CheeseType> {
+        private final String type;
+        private final int ordinal;
+
+        TypeReference(CheeseType cheeseType, ReferenceQueue<CheeseType> queue) {
+            super(cheeseType, queue);
+            type = cheeseType.value;
+            ordinal = cheeseType.ordinal;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package seedu.address.model.cheese;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of cheeses backed by {@code CheeseColumns}, so that the cheeses are held as primitive fields
+ * rather than objects. Each {@code Cheese} is created when it is read from the list, and is not retained by it.
+ * Modifications can be grouped with {@link #batch(Runnable)}, as in {@code BatchedObservableList}.
+ */
+class ColumnarCheeseList extends ModifiableObservableListBase<Cheese> {
+    private CheeseColumns columns = new CheeseColumns();
+
+    /**
+     * Returns the columns currently backing this list. They are replaced whenever the whole list is.
+     */
+    CheeseColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Runs {@code modifications} against this list, and notifies listeners of all of them once they complete.
+     * Batches may be nested, in which case listeners are notified when the outermost batch completes.
+     */
+    void batch(Runnable modifications) {
+        requireNonNull(modifications);
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public Cheese get(int index) {
+        return columns.get(index);
+    }
+
+    @Override
+    public int size() {
+        return columns.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Cheese element) {
+        columns.add(index, element);
+    }
+
+    @Override
+    protected Cheese doSet(int index, Cheese element) {
+        Cheese previous = columns.get(index);
+        columns.set(index, element);
+        return previous;
+    }
+
+    @Override
+    protected Cheese doRemove(int index) {
+        Cheese previous = columns.get(index);
+        columns.remove(index);
+        return previous;
+    }
+
+    /**
+     * Replaces the contents of this list in a single step, rather than removing and adding cheeses one by one.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Cheese> elements) {
+        requireNonNull(elements);
+        CheeseColumns replacement = new CheeseColumns();
+        for (Cheese cheese : elements) {
+            replacement.add(replacement.size(), cheese);
+        }
+
+        beginChange();
+        try {
+            CheeseColumns removed = columns;
+            columns = replacement;
+            modCount++;
+            if (removed.size() > 0) {
+                nextRemove(0, removed.asList());
+            }
+            if (columns.size() > 0) {
+                nextAdd(0, columns.size());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the cheeses matching {@code filter} in a single pass over the list,
+     * notifying listeners of all the removals in one change event.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Cheese> filter) {
+        requireNonNull(filter);
+        return removeSlotsIf(slot -> filter.test(columns.cheeseAt(slot)));
+    }
+
+    /**
+     * Removes the cheeses whose slots in {@code getColumns()} match {@code filter}, as in {@link #removeIf(Predicate)},
+     * without creating the cheeses that are kept.
+     */
+    boolean removeSlotsIf(IntPredicate filter) {
+        requireNonNull(filter);
+        beginChange();
+        try {
+            boolean isChanged = columns.removeIf(filter, (cheese, position) -> nextRemove(position, cheese));
+            if (isChanged) {
+                modCount++;
+            }
+            return isChanged;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+}
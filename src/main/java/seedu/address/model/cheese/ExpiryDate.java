@@ -22,6 +22,14 @@ public class ExpiryDate extends AbstractDate {
         checkArgument(isValidManufactureDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code ExpiryDate} from a date time.
+     */
+    public ExpiryDate(LocalDateTime date) {
+        super(date);
+        checkArgument(isValidManufactureDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidManufactureDate(LocalDateTime value) {
         return true;
     }
@@ -29,6 +29,14 @@ public class ManufactureDate extends AbstractDate {
         checkArgument(isValidManufactureDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code ManufactureDate} from a date time.
+     */
+    public ManufactureDate(LocalDateTime date) {
+        super(date);
+        checkArgument(isValidManufactureDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidManufactureDate(LocalDateTime value) {
         return true;
     }
@@ -22,6 +22,14 @@ public class MaturityDate extends AbstractDate {
         checkArgument(isValidMaturityDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code MaturityDate} from a date time.
+     */
+    public MaturityDate(LocalDateTime date) {
+        super(date);
+        checkArgument(isValidMaturityDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidMaturityDate(LocalDateTime value) {
         return true;
     }
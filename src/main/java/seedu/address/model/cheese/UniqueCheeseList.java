@@ -3,10 +3,14 @@ package seedu.address.model.cheese;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,6 +19,10 @@ import seedu.address.model.cheese.exceptions.DuplicateCheeseException;
 import seedu.address.model.order.Quantity;
 import seedu.address.model.order.exceptions.DuplicateOrderException;
 import seedu.address.model.order.exceptions.OrderNotFoundException;
+import seedu.address.model.util.IntSet;
+import seedu.address.model.util.ListEditListener;
+import seedu.address.model.util.PersistentList;
+import seedu.address.model.util.UndoLog;
 
 /**
  * A list of Cheese that enforces uniqueness between its elements and does not allow nulls.
@@ -23,31 +31,57 @@ import seedu.address.model.order.exceptions.OrderNotFoundException;
  * unique in terms of identity in the UniqueCheeseList. However, the removal of a Cheese uses Cheese#equals(Cheese) so
  * as to ensure that the Cheese with exactly the same fields will be removed.
  *
+ * The cheeses are stored as columns of primitive fields, and each {@code Cheese} is created as it is read.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Cheese#isSameCheese(Cheese)
  */
 public class UniqueCheeseList implements Iterable<Cheese> {
-    private final ObservableList<Cheese> internalList = FXCollections.observableArrayList();
+    private final ColumnarCheeseList internalList = new ColumnarCheeseList();
     private final ObservableList<Cheese> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // The unassigned cheeses of each type, in the order they should be allocated, indexed by cheese type ordinal
+    private CheesePool[] unassignedCheesePools = new CheesePool[0];
+
+    // A structurally shared copy of internalList, kept up to date only once the first snapshot has been taken.
+    // Unlike the columns, it holds a Cheese object for every cheese.
+    private PersistentList<Cheese> sharedList;
+
+    private final UndoLog undoLog;
+    private final ListEditListener<? super Cheese> editListener;
+
+    public UniqueCheeseList() {
+        this(new UndoLog(), ListEditListener.ignoringEdits());
+    }
+
+    /**
+     * Creates a list that records how to undo its modifications in {@code undoLog},
+     * and reports each of them to {@code editListener}.
+     */
+    public UniqueCheeseList(UndoLog undoLog, ListEditListener<? super Cheese> editListener) {
+        requireAllNonNull(undoLog, editListener);
+        this.undoLog = undoLog;
+        this.editListener = editListener;
+    }
+
     /**
      * Returns true if the list contains an equivalent cheese as the given argument.
      */
     public boolean contains(Cheese toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCheese);
+        return columns().slotOfId(toCheck.getCheeseId().value) != -1;
     }
 
     /**
-     * Returns first {@code Cheese} instance with equivalent cheeseId as the given
+     * Returns the {@code Cheese} instance with equivalent cheeseId as the given
      * argument or null if it does not exist.
      */
     public Cheese getCheeseWithId(CheeseId cheeseId) {
         requireNonNull(cheeseId);
-        return internalList.stream().filter(cheese -> cheese.getCheeseId().equals(cheeseId))
-            .findFirst().orElse(null);
+        int slot = columns().slotOfId(cheeseId.value);
+        return slot == -1 ? null : columns().cheeseAt(slot);
     }
 
     /**
@@ -59,7 +93,7 @@ public class UniqueCheeseList implements Iterable<Cheese> {
         if (contains(toAdd)) {
             throw new DuplicateCheeseException();
         }
-        internalList.add(toAdd);
+        insertAt(internalList.size(), toAdd);
     }
 
     /**
@@ -70,7 +104,7 @@ public class UniqueCheeseList implements Iterable<Cheese> {
     public void setCheese(Cheese target, Cheese editedCheese) {
         requireAllNonNull(target, editedCheese);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new OrderNotFoundException();
         }
@@ -79,7 +113,7 @@ public class UniqueCheeseList implements Iterable<Cheese> {
             throw new DuplicateOrderException();
         }
 
-        internalList.set(index, editedCheese);
+        replaceAt(index, editedCheese);
     }
 
     /**
@@ -88,9 +122,45 @@ public class UniqueCheeseList implements Iterable<Cheese> {
      */
     public void delete(Cheese toDelete) {
         requireNonNull(toDelete);
-        if (!internalList.remove(toDelete)) {
+        int index = indexOf(toDelete);
+        if (index == -1) {
             throw new CheeseNotFoundException();
         }
+
+        removeAt(index);
+    }
+
+    /**
+     * Removes the cheeses with the given ids in a single pass over the list.
+     * Ids of cheeses that are not in the list are ignored.
+     */
+    public void deleteCheeses(Set<CheeseId> cheeseIds) {
+        requireAllNonNull(cheeseIds);
+
+        TreeMap<Integer, Cheese> deletedCheesesByPosition = new TreeMap<>();
+        IntSet deletedSlots = new IntSet();
+        for (CheeseId cheeseId : cheeseIds) {
+            int slot = columns().slotOfId(cheeseId.value);
+            if (slot != -1) {
+                deletedSlots.add(slot);
+                removeFromPool(slot);
+                deletedCheesesByPosition.put(columns().indexOfSlot(slot), columns().cheeseAt(slot));
+            }
+        }
+
+        if (!deletedSlots.isEmpty()) {
+            internalList.removeSlotsIf(deletedSlots::contains);
+        }
+        // Removing from the back keeps the positions of the cheeses still to be removed unchanged
+        for (int position : deletedCheesesByPosition.descendingKeySet()) {
+            if (sharedList != null) {
+                sharedList = sharedList.minus(position);
+            }
+            editListener.removed(position);
+        }
+        if (undoLog.isRecording()) {
+            undoLog.record(() -> deletedCheesesByPosition.forEach(this::insertAt));
+        }
     }
 
     /**
@@ -103,39 +173,73 @@ public class UniqueCheeseList implements Iterable<Cheese> {
             throw new DuplicateCheeseException();
         }
 
-        internalList.setAll(cheeses);
+        replaceAll(cheeses);
     }
 
+    /**
+     * Returns the number of unassigned cheeses of {@code cheeseType} in the list that have matured.
+     */
+    public int getUnassignedCheeseCount(CheeseType cheeseType) {
+        requireNonNull(cheeseType);
+        CheesePool pool = getPool(cheeseType);
+        return pool == null ? 0 : pool.countEligible(LocalDateTime.now());
+    }
+
+    /**
+     * Returns the ids of up to {@code quantity} unassigned, matured cheeses of {@code cheeseType},
+     * choosing the cheeses that expire soonest first.
+     */
     public Set<CheeseId> getUnassignedCheeses(CheeseType cheeseType, Quantity quantity) {
         requireAllNonNull(cheeseType, quantity);
-
-        Set<CheeseId> cheeses = new HashSet<>();
-        int c = quantity.getQuantity();
-        for (int i = 0; i < internalList.size() && c > 0; i++) {
-            Cheese cheese = internalList.get(i);
-            if (!cheese.isCheeseAssigned() && cheese.isSameType(cheeseType)) {
-                cheeses.add(cheese.getCheeseId());
-                c--;
-            }
+        CheesePool pool = getPool(cheeseType);
+        if (pool == null) {
+            return new HashSet<>();
         }
-        return cheeses;
+        return pool.getEligible(quantity.getQuantity(), LocalDateTime.now());
     }
 
     /**
-     * Updates cheeses to assigned based on the set of cheese Ids provided
+     * Marks the cheeses with the given ids as assigned, notifying listeners of the list once.
+     * Ids of cheeses that are not in the list, or are already assigned, are ignored.
      * @param cheesesAssigned , cheese Ids of cheeses assigned to an order
      */
     public void updateCheesesStatus(Set<CheeseId> cheesesAssigned) {
         requireAllNonNull(cheesesAssigned);
 
-        CheeseId[] cheesesIds = cheesesAssigned.toArray(new CheeseId[cheesesAssigned.size()]);
-        for (int i = 0, c = 0; i < internalList.size() && c < cheesesIds.length; i++) {
-            Cheese cheese = internalList.get(i);
-            if (cheese.getCheeseId().equals(cheesesIds[c])) {
-                internalList.set(i, cheese.assignToOrder());
-                c++;
+        internalList.batch(() -> {
+            for (CheeseId cheeseId : cheesesAssigned) {
+                int slot = columns().slotOfId(cheeseId.value);
+                if (slot == -1 || columns().isAssignedAt(slot)) {
+                    continue;
+                }
+
+                replaceAt(columns().indexOfSlot(slot), columns().cheeseAt(slot).assignToOrder());
             }
+        });
+    }
+
+    /**
+     * Runs {@code modifications} against this list, notifying listeners of all of them in one change event.
+     */
+    public void batch(Runnable modifications) {
+        internalList.batch(modifications);
+    }
+
+    /**
+     * Returns an immutable copy of the list, in O(1) time once the first copy has been taken.
+     */
+    public List<Cheese> snapshot() {
+        return currentVersion();
+    }
+
+    /**
+     * Returns the persistent version of the list, creating it if no copy of the list has been taken yet.
+     */
+    private PersistentList<Cheese> currentVersion() {
+        if (sharedList == null) {
+            sharedList = PersistentList.of(internalList);
         }
+        return sharedList;
     }
 
     /**
@@ -162,15 +266,146 @@ public class UniqueCheeseList implements Iterable<Cheese> {
         return internalList.hashCode();
     }
 
+    private CheeseColumns columns() {
+        return internalList.getColumns();
+    }
+
+    /**
+     * Returns the position of {@code cheese} in {@code internalList}, or -1 if the list does not contain a cheese
+     * equal to it. Only the cheese stored under the same cheese id is compared.
+     */
+    private int indexOf(Cheese cheese) {
+        int slot = columns().slotOfId(cheese.getCheeseId().value);
+        if (slot == -1 || !columns().matches(slot, cheese)) {
+            return -1;
+        }
+        return columns().indexOfSlot(slot);
+    }
+
+    /**
+     * Inserts {@code cheese} at {@code index} of the list, recording how to undo it.
+     */
+    private void insertAt(int index, Cheese cheese) {
+        internalList.add(index, cheese);
+        addToPool(columns().slotAt(index), LocalDateTime.now());
+        if (sharedList != null) {
+            sharedList = sharedList.plus(index, cheese);
+        }
+        editListener.inserted(index, cheese);
+        undoLog.record(() -> removeAt(index));
+    }
+
+    /**
+     * Replaces the cheese at {@code index} of the list with {@code cheese}, recording how to undo it.
+     */
+    private void replaceAt(int index, Cheese cheese) {
+        int slot = columns().slotAt(index);
+        removeFromPool(slot);
+        Cheese previous = internalList.set(index, cheese);
+        addToPool(slot, LocalDateTime.now());
+        if (sharedList != null) {
+            sharedList = sharedList.with(index, cheese);
+        }
+        editListener.replaced(index, cheese);
+        undoLog.record(() -> replaceAt(index, previous));
+    }
+
+    /**
+     * Removes the cheese at {@code index} of the list, recording how to undo it.
+     */
+    private void removeAt(int index) {
+        removeFromPool(columns().slotAt(index));
+        Cheese removed = internalList.remove(index);
+        if (sharedList != null) {
+            sharedList = sharedList.minus(index);
+        }
+        editListener.removed(index);
+        undoLog.record(() -> insertAt(index, removed));
+    }
+
+    /**
+     * Replaces the contents of the list with {@code cheeses}, recording how to undo it.
+     */
+    private void replaceAll(List<Cheese> cheeses) {
+        if (undoLog.isRecording()) {
+            // The replaced version stays intact, so undoing restores it without copying the list here
+            PersistentList<Cheese> previous = currentVersion();
+            undoLog.record(() -> replaceAll(previous));
+        }
+        internalList.setAll(cheeses);
+        rebuildPools();
+        if (cheeses instanceof PersistentList) {
+            sharedList = (PersistentList<Cheese>) cheeses;
+        } else if (sharedList != null) {
+            sharedList = PersistentList.of(internalList);
+        }
+        editListener.reset();
+    }
+
+    /**
+     * Rebuilds the pools of unassigned cheeses from the contents of {@code internalList}.
+     */
+    private void rebuildPools() {
+        unassignedCheesePools = new CheesePool[0];
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < internalList.size(); i++) {
+            addToPool(columns().slotAt(i), now);
+        }
+    }
+
+    /**
+     * Adds the cheese in {@code slot} to the pool of its cheese type if it is unassigned.
+     */
+    private void addToPool(int slot, LocalDateTime now) {
+        if (!columns().isAssignedAt(slot)) {
+            getOrCreatePool(columns().typeAt(slot)).add(slot, now);
+        }
+    }
+
+    /**
+     * Removes the cheese in {@code slot} from the pool of its cheese type, if present.
+     */
+    private void removeFromPool(int slot) {
+        CheeseType cheeseType = columns().typeAt(slot);
+        CheesePool pool = getPool(cheeseType);
+        if (pool != null) {
+            pool.remove(slot);
+            if (pool.isEmpty()) {
+                // An empty pool holds no cheese of its type, so the type's ordinal may later be reused
+                unassignedCheesePools[cheeseType.getOrdinal()] = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the pool of unassigned cheeses of {@code cheeseType}, or null if there are none.
+     */
+    private CheesePool getPool(CheeseType cheeseType) {
+        int ordinal = cheeseType.getOrdinal();
+        return ordinal < unassignedCheesePools.length ? unassignedCheesePools[ordinal] : null;
+    }
+
+    private CheesePool getOrCreatePool(CheeseType cheeseType) {
+        int ordinal = cheeseType.getOrdinal();
+        if (ordinal >= unassignedCheesePools.length) {
+            unassignedCheesePools = Arrays.copyOf(unassignedCheesePools, Math.max(ordinal + 1,
+                    unassignedCheesePools.length * 2));
+        }
+        if (unassignedCheesePools[ordinal] == null) {
+            unassignedCheesePools[ordinal] = new CheesePool(internalList);
+        }
+        return unassignedCheesePools[ordinal];
+    }
+
     /**
      * Returns true if {@code cheeses} contains only unique cheeses.
+     * Cheeses are the same cheese if their ids are equal, as in {@code Cheese#isSameCheese(Cheese)}.
      */
     private boolean cheesesAreUnique(List<Cheese> cheeses) {
-        for (int i = 0; i < cheeses.size() - 1; i++) {
-            for (int j = i + 1; j < cheeses.size(); j++) {
-                if (cheeses.get(i).isSameCheese(cheeses.get(j))) {
-                    return false;
-                }
+        Set<CheeseId> seenKeys = new HashSet<>();
+        for (Cheese cheese : cheeses) {
+            if (!seenKeys.add(cheese.getCheeseId())) {
+                return false;
             }
         }
         return true;
@@ -40,6 +40,21 @@ public class Customer {
         this(name, phone, email, address, tags, CustomerId.getNextId());
     }
 
+    /**
+     * Constructs a customer whose email and address are given by {@link #getEmail()} and {@link #getAddress()},
+     * which the subclass overrides, for example to decode them only when they are first needed.
+     * Every other field must be present and not null.
+     */
+    protected Customer(Name name, Phone phone, Set<Tag> tags, CustomerId customerId) {
+        requireAllNonNull(name, phone, tags, customerId);
+        this.name = name;
+        this.phone = phone;
+        this.email = null;
+        this.address = null;
+        this.tags.addAll(tags);
+        this.customerId = customerId;
+    }
+
     public Name getName() {
         return name;
     }
@@ -107,7 +122,7 @@ public class Customer {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return Objects.hash(getName(), getPhone(), getEmail(), getAddress(), getTags());
     }
 
     @Override
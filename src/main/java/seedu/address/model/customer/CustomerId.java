@@ -3,6 +3,7 @@ package seedu.address.model.customer;
 import seedu.address.model.AbstractId;
 
 public class CustomerId extends AbstractId<CustomerId> {
+    // Guarded by the class, as customers and the orders that refer to them may be loaded on different threads
     private static int nextId = 1;
 
     /**
@@ -14,12 +15,12 @@ public class CustomerId extends AbstractId<CustomerId> {
         super(id);
     }
 
-    public static CustomerId getNextId() {
+    public static synchronized CustomerId getNextId() {
         return getNextId(nextId);
     }
 
 
-    public static CustomerId getNextId(int id) {
+    public static synchronized CustomerId getNextId(int id) {
         CustomerId result = new CustomerId(id);
         updateNextId(result);
         return result;
@@ -33,7 +34,7 @@ public class CustomerId extends AbstractId<CustomerId> {
         }
     }
 
-    protected static int getNextIdValue() {
+    protected static synchronized int getNextIdValue() {
         return nextId;
     }
 }
@@ -3,13 +3,23 @@ package seedu.address.model.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.customer.exceptions.CustomerNotFoundException;
 import seedu.address.model.customer.exceptions.DuplicateCustomerException;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.ListEditListener;
+import seedu.address.model.util.PersistentList;
+import seedu.address.model.util.UndoLog;
 
 /**
  * A list of customers that enforces uniqueness between its elements and does not allow nulls.
@@ -24,16 +34,43 @@ import seedu.address.model.customer.exceptions.DuplicateCustomerException;
  */
 public class UniqueCustomerList implements Iterable<Customer> {
 
-    private final ObservableList<Customer> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Customer> internalList = new BatchedObservableList<>();
     private final ObservableList<Customer> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Indexes of customers by phone and by id, kept in sync with internalList by every mutating operation
+    private final Map<Phone, Customer> phoneToCustomerMap = new HashMap<>();
+    private final Map<CustomerId, Customer> idToCustomerMap = new HashMap<>();
+    private final Map<CustomerId, Customer> idToCustomerUnmodifiableMap =
+            Collections.unmodifiableMap(idToCustomerMap);
+
+    // A structurally shared copy of internalList, kept up to date only once the first snapshot has been taken
+    private PersistentList<Customer> sharedList;
+
+    private final UndoLog undoLog;
+    private final ListEditListener<? super Customer> editListener;
+
+    public UniqueCustomerList() {
+        this(new UndoLog(), ListEditListener.ignoringEdits());
+    }
+
+    /**
+     * Creates a list that records how to undo its modifications in {@code undoLog},
+     * and reports each of them to {@code editListener}.
+     */
+    public UniqueCustomerList(UndoLog undoLog, ListEditListener<? super Customer> editListener) {
+        requireAllNonNull(undoLog, editListener);
+        this.undoLog = undoLog;
+        this.editListener = editListener;
+    }
+
     /**
      * Returns true if the list contains an equivalent customer as the given argument.
      */
     public boolean contains(Customer toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCustomer);
+        // Customer#isSameCustomer compares by phone, so the phone index answers this directly
+        return phoneToCustomerMap.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -41,15 +78,15 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public boolean hasPhone(Phone toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(customer -> customer.getPhone().equals(toCheck));
+        return phoneToCustomerMap.containsKey(toCheck);
     }
 
     /**
-     * Returns first {@code Customer} instance with equivalent phone as the given argument or null if it does not exist.
+     * Returns the {@code Customer} instance with equivalent phone as the given argument or null if it does not exist.
      */
     public Customer getCustomerWithPhone(Phone phone) {
         requireNonNull(phone);
-        return internalList.stream().filter(customer -> customer.getPhone().equals(phone)).findFirst().orElse(null);
+        return phoneToCustomerMap.get(phone);
     }
 
     /**
@@ -61,7 +98,7 @@ public class UniqueCustomerList implements Iterable<Customer> {
         if (contains(toAdd)) {
             throw new DuplicateCustomerException();
         }
-        internalList.add(toAdd);
+        insertAt(internalList.size(), toAdd);
     }
 
     /**
@@ -81,7 +118,7 @@ public class UniqueCustomerList implements Iterable<Customer> {
             throw new DuplicateCustomerException();
         }
 
-        internalList.set(index, editedCustomer);
+        replaceAt(index, editedCustomer);
     }
 
     /**
@@ -90,14 +127,16 @@ public class UniqueCustomerList implements Iterable<Customer> {
      */
     public void delete(Customer toDelete) {
         requireNonNull(toDelete);
-        if (!internalList.remove(toDelete)) {
+        int index = internalList.indexOf(toDelete);
+        if (index == -1) {
             throw new CustomerNotFoundException();
         }
+        removeAt(index);
     }
 
     public void setCustomers(UniqueCustomerList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
     }
 
     /**
@@ -110,7 +149,24 @@ public class UniqueCustomerList implements Iterable<Customer> {
             throw new DuplicateCustomerException();
         }
 
-        internalList.setAll(customers);
+        replaceAll(customers);
+    }
+
+    /**
+     * Runs {@code modifications} against this list, notifying listeners of all of them in one change event.
+     */
+    public void batch(Runnable modifications) {
+        internalList.batch(modifications);
+    }
+
+    /**
+     * Returns an immutable copy of the list, in O(1) time once the first copy has been taken.
+     */
+    public List<Customer> snapshot() {
+        if (sharedList == null) {
+            sharedList = PersistentList.of(internalList);
+        }
+        return sharedList;
     }
 
     /**
@@ -120,6 +176,14 @@ public class UniqueCustomerList implements Iterable<Customer> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an unmodifiable view of the customers in this list keyed by their {@code CustomerId}.
+     * The view reflects later changes to the list.
+     */
+    public Map<CustomerId, Customer> asUnmodifiableIdMap() {
+        return idToCustomerUnmodifiableMap;
+    }
+
     @Override
     public Iterator<Customer> iterator() {
         return internalList.iterator();
@@ -137,15 +201,87 @@ public class UniqueCustomerList implements Iterable<Customer> {
         return internalList.hashCode();
     }
 
+    /**
+     * Inserts {@code customer} at {@code index} of the list, recording how to undo it.
+     */
+    private void insertAt(int index, Customer customer) {
+        internalList.add(index, customer);
+        phoneToCustomerMap.put(customer.getPhone(), customer);
+        idToCustomerMap.put(customer.getId(), customer);
+        if (sharedList != null) {
+            sharedList = sharedList.plus(index, customer);
+        }
+        editListener.inserted(index, customer);
+        undoLog.record(() -> removeAt(index));
+    }
+
+    /**
+     * Replaces the customer at {@code index} of the list with {@code customer}, recording how to undo it.
+     */
+    private void replaceAt(int index, Customer customer) {
+        Customer previous = internalList.set(index, customer);
+        phoneToCustomerMap.remove(previous.getPhone());
+        phoneToCustomerMap.put(customer.getPhone(), customer);
+        idToCustomerMap.remove(previous.getId(), previous);
+        idToCustomerMap.put(customer.getId(), customer);
+        if (sharedList != null) {
+            sharedList = sharedList.with(index, customer);
+        }
+        editListener.replaced(index, customer);
+        undoLog.record(() -> replaceAt(index, previous));
+    }
+
+    /**
+     * Removes the customer at {@code index} of the list, recording how to undo it.
+     */
+    private void removeAt(int index) {
+        Customer removed = internalList.remove(index);
+        phoneToCustomerMap.remove(removed.getPhone());
+        idToCustomerMap.remove(removed.getId(), removed);
+        if (sharedList != null) {
+            sharedList = sharedList.minus(index);
+        }
+        editListener.removed(index);
+        undoLog.record(() -> insertAt(index, removed));
+    }
+
+    /**
+     * Replaces the contents of the list with {@code customers}, recording how to undo it.
+     */
+    private void replaceAll(List<Customer> customers) {
+        if (undoLog.isRecording()) {
+            List<Customer> previous = new ArrayList<>(internalList);
+            undoLog.record(() -> replaceAll(previous));
+        }
+        internalList.setAll(customers);
+        rebuildIndex();
+        if (sharedList != null) {
+            sharedList = PersistentList.of(internalList);
+        }
+        editListener.reset();
+    }
+
+    /**
+     * Rebuilds the phone and id indexes from the contents of {@code internalList}.
+     */
+    private void rebuildIndex() {
+        phoneToCustomerMap.clear();
+        idToCustomerMap.clear();
+        for (Customer customer : internalList) {
+            phoneToCustomerMap.put(customer.getPhone(), customer);
+            idToCustomerMap.put(customer.getId(), customer);
+        }
+    }
+
     /**
      * Returns true if {@code customers} contains only unique customers.
+     * Customers are the same customer if their phones are equal, as in {@code Customer#isSameCustomer(Customer)}.
      */
     private boolean customersAreUnique(List<Customer> customers) {
-        for (int i = 0; i < customers.size() - 1; i++) {
-            for (int j = i + 1; j < customers.size(); j++) {
-                if (customers.get(i).isSameCustomer(customers.get(j))) {
-                    return false;
-                }
+        Set<Phone> seenKeys = new HashSet<>();
+        for (Customer customer : customers) {
+            if (!seenKeys.add(customer.getPhone())) {
+                return false;
             }
         }
         return true;
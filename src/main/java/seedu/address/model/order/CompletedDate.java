@@ -21,6 +21,14 @@ public class CompletedDate extends AbstractDate {
         checkArgument(isValidCompletedDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code CompletedDate} from a date time.
+     */
+    public CompletedDate(LocalDateTime date) {
+        super(date);
+        checkArgument(isValidCompletedDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidCompletedDate(LocalDateTime value) {
         return true;
     }
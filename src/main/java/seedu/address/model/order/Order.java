@@ -3,7 +3,6 @@ package seedu.address.model.order;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -11,6 +10,7 @@ import java.util.Set;
 import seedu.address.model.cheese.CheeseId;
 import seedu.address.model.cheese.CheeseType;
 import seedu.address.model.customer.CustomerId;
+import seedu.address.model.util.SortedIntSet;
 
 /**
  * Represents a Order in the Cheese Inventory Management System (CHIM).
@@ -29,8 +29,8 @@ public class Order {
     private final OrderDate orderDate;
     private final Optional<CompletedDate> completedDate;
 
-    // Set of cheese IDs for this order
-    private final Set<CheeseId> cheeses = new HashSet<>();
+    // Set of cheese IDs for this order, held as a sorted array of id values
+    private final SortedIntSet cheeseIds;
 
     public Order(CheeseType cheeseType, Quantity quantity, OrderDate orderDate,
                  CompletedDate completedDate, CustomerId customerId) {
@@ -74,15 +74,29 @@ public class Order {
      */
     public Order(CheeseType cheeseType, Quantity quantity, OrderDate orderDate, CompletedDate completedDate,
                  Set<CheeseId> cheeses, OrderId orderId, CustomerId customerId) {
-        requireAllNonNull(cheeseType, quantity, orderDate, cheeses, orderId, customerId);
-        checkOrderArguments(cheeseType, quantity, orderDate, completedDate, cheeses, orderId, customerId);
+        this(cheeseType, quantity, orderDate, completedDate, SortedIntSet.ofIds(cheeses), orderId, customerId);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The cheeses used to fulfil the order are given by the values of their ids.
+     */
+    public Order(CheeseType cheeseType, Quantity quantity, OrderDate orderDate, CompletedDate completedDate,
+                 int[] cheeseIds, OrderId orderId, CustomerId customerId) {
+        this(cheeseType, quantity, orderDate, completedDate, SortedIntSet.of(cheeseIds), orderId, customerId);
+    }
+
+    private Order(CheeseType cheeseType, Quantity quantity, OrderDate orderDate, CompletedDate completedDate,
+                  SortedIntSet cheeseIds, OrderId orderId, CustomerId customerId) {
+        requireAllNonNull(cheeseType, quantity, orderDate, cheeseIds, orderId, customerId);
+        checkOrderArguments(cheeseType, quantity, orderDate, completedDate, cheeseIds.size(), orderId, customerId);
         this.orderCheeseType = cheeseType;
         this.quantity = quantity;
         this.orderDate = orderDate;
         this.completedDate = Optional.ofNullable(completedDate);
         this.orderId = orderId;
         this.customerId = customerId;
-        this.cheeses.addAll(cheeses);
+        this.cheeseIds = cheeseIds;
     }
 
     public CheeseType getCheeseType() {
@@ -119,23 +133,30 @@ public class Order {
      * if modification is attempted.
      */
     public Set<CheeseId> getCheeses() {
-        return Collections.unmodifiableSet(cheeses);
+        return cheeseIds.asUnmodifiableIdSet(CheeseId::valueOf);
+    }
+
+    /**
+     * Returns the values of the ids of the cheeses used to fulfil the order, in ascending order.
+     */
+    public int[] getCheeseIdValues() {
+        return cheeseIds.toArray();
     }
 
     /**
      * Checks whether the given parameters are valid for an order
      */
     public static void checkOrderArguments(CheeseType cheeseType, Quantity quantity, OrderDate orderDate,
-                                           CompletedDate completedDate, Set<CheeseId> cheeses, OrderId orderId,
+                                           CompletedDate completedDate, int cheeseCount, OrderId orderId,
                                            CustomerId customerId) {
         if (completedDate == null) {
             // Checks for incomplete orders
-            checkArgument(cheeses.size() == 0, "The cheese set for an incomplete order should be empty.");
+            checkArgument(cheeseCount == 0, "The cheese set for an incomplete order should be empty.");
         } else {
             // Checks for completed orders
             checkArgument(completedDate.isAfter(orderDate), "The completed date of an order should be after the"
                 + " order date.");
-            checkArgument(cheeses.size() == quantity.value, "The number of cheeses in the order does not"
+            checkArgument(cheeseCount == quantity.value, "The number of cheeses in the order does not"
                 + " match the specified quantity.");
         }
     }
@@ -176,7 +197,7 @@ public class Order {
                 && otherOrder.getQuantity().equals(getQuantity())
                 && otherOrder.getOrderDate().equals(getOrderDate())
                 && otherOrder.getCompletedDate().equals(getCompletedDate())
-                && otherOrder.getCheeses().equals(getCheeses());
+                && otherOrder.cheeseIds.equals(cheeseIds);
     }
 
     @Override
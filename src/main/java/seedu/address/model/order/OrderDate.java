@@ -29,6 +29,14 @@ public class OrderDate extends AbstractDate {
         checkArgument(isValidOrderDate(this.value), MESSAGE_CONSTRAINTS);
     }
 
+    /**
+     * Constructs a {@code OrderDate} from a date time.
+     */
+    public OrderDate(LocalDateTime date) {
+        super(date);
+        checkArgument(isValidOrderDate(this.value), MESSAGE_CONSTRAINTS);
+    }
+
     public boolean isValidOrderDate(LocalDateTime value) {
         return true;
     }
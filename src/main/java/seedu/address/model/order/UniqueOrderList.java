@@ -3,56 +3,95 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.exceptions.DuplicateOrderException;
 import seedu.address.model.order.exceptions.OrderNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.ListEditListener;
+import seedu.address.model.util.PersistentList;
+import seedu.address.model.util.UndoLog;
 
 /**
  * A list of Order that enforces uniqueness between its elements and does not allow nulls.
- * A Order is considered unique by comparing using {@code Order#isSameOrder(Order)}. As such, adding and updating of
- * orders uses Order#isSameOrder(Order) for equality so as to ensure that the Order being added or updated is
- * unique in terms of identity in the UniqueOrderList. However, the removal of a Order uses Order#equals(Object) so
- * as to ensure that the Order with exactly the same fields will be removed.
+ * An Order is considered unique by its {@code OrderId} alone. As such, adding an order whose id is already in the
+ * list, or updating an order to take the id of another order in the list, throws {@code DuplicateOrderException},
+ * whatever the other fields of the orders are. However, the removal of an Order uses Order#equals(Object) so as to
+ * ensure that the Order with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
- *
- * @see Order#isSameOrder(Order)
  */
 public class UniqueOrderList implements Iterable<Order> {
-    private final ObservableList<Order> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Order> internalList = new BatchedObservableList<>();
     private final ObservableList<Order> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Primary key indexes into internalList.
+    // Positions at or after positionsStaleFrom may be out of date after a removal, and are refreshed on demand.
+    private final Map<OrderId, Order> idToOrderMap = new HashMap<>();
+    private final Map<OrderId, Integer> idToPositionMap = new HashMap<>();
+    private int positionsStaleFrom = 0;
+
+    // Secondary index of the ids of the orders placed by each customer
+    private final Map<CustomerId, Set<OrderId>> customerToOrderIdsMap = new HashMap<>();
+
+    // A structurally shared copy of internalList, kept up to date only once the first snapshot has been taken
+    private PersistentList<Order> sharedList;
+
+    private final UndoLog undoLog;
+    private final ListEditListener<? super Order> editListener;
+
+    public UniqueOrderList() {
+        this(new UndoLog(), ListEditListener.ignoringEdits());
+    }
+
+    /**
+     * Creates a list that records how to undo its modifications in {@code undoLog},
+     * and reports each of them to {@code editListener}.
+     */
+    public UniqueOrderList(UndoLog undoLog, ListEditListener<? super Order> editListener) {
+        requireAllNonNull(undoLog, editListener);
+        this.undoLog = undoLog;
+        this.editListener = editListener;
+    }
+
     /**
-     * Returns true if the list contains an equivalent order as the given argument.
+     * Returns true if the list contains an order with the same order id as the given argument.
      */
     public boolean contains(Order toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrder);
+        return idToOrderMap.containsKey(toCheck.getOrderId());
     }
 
     /**
-     * Returns first {@code Order} instance with equivalent orderId as the given argument or null if it does not exist.
+     * Returns the {@code Order} instance with equivalent orderId as the given argument or null if it does not exist.
      */
     public Order getOrderWithId(OrderId orderId) {
         requireNonNull(orderId);
-        return internalList.stream().filter(order -> order.getOrderId().equals(orderId)).findFirst().orElse(null);
+        return idToOrderMap.get(orderId);
     }
 
     /**
      * Adds a Order to the list.
-     * The order must not already exist in the list.
+     * The order must not already exist in the list, and its order id must not be taken by another order.
      */
     public void add(Order toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (idToOrderMap.containsKey(toAdd.getOrderId())) {
             throw new DuplicateOrderException();
         }
-        internalList.add(toAdd);
+        insertAt(internalList.size(), toAdd);
     }
 
     /**
@@ -63,16 +102,18 @@ public class UniqueOrderList implements Iterable<Order> {
     public void setOrder(Order target, Order editedOrder) {
         requireAllNonNull(target, editedOrder);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new OrderNotFoundException();
         }
 
-        if (!target.isSameOrder(editedOrder) && contains(editedOrder)) {
+        OrderId targetId = target.getOrderId();
+        OrderId editedId = editedOrder.getOrderId();
+        if (!targetId.equals(editedId) && idToOrderMap.containsKey(editedId)) {
             throw new DuplicateOrderException();
         }
 
-        internalList.set(index, editedOrder);
+        replaceAt(index, editedOrder);
     }
 
     /**
@@ -81,9 +122,62 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void delete(Order toDelete) {
         requireNonNull(toDelete);
-        if (!internalList.remove(toDelete)) {
+        int index = indexOf(toDelete);
+        if (index == -1) {
             throw new OrderNotFoundException();
         }
+
+        removeAt(index);
+    }
+
+    /**
+     * Returns the orders placed by the customer with {@code customerId}.
+     */
+    public List<Order> getOrdersOfCustomer(CustomerId customerId) {
+        requireNonNull(customerId);
+        List<Order> customerOrders = new ArrayList<>();
+        for (OrderId orderId : customerToOrderIdsMap.getOrDefault(customerId, Set.of())) {
+            customerOrders.add(idToOrderMap.get(orderId));
+        }
+        return customerOrders;
+    }
+
+    /**
+     * Removes all the orders placed by the customer with {@code customerId} in a single pass over the list.
+     * Returns the removed orders.
+     */
+    public List<Order> deleteOrdersOfCustomer(CustomerId customerId) {
+        requireNonNull(customerId);
+        Set<OrderId> orderIds = customerToOrderIdsMap.remove(customerId);
+        if (orderIds == null) {
+            return new ArrayList<>();
+        }
+
+        TreeMap<Integer, Order> deletedOrdersByPosition = new TreeMap<>();
+        List<Order> deletedOrders = new ArrayList<>();
+        for (OrderId orderId : orderIds) {
+            Order order = idToOrderMap.get(orderId);
+            deletedOrders.add(order);
+            deletedOrdersByPosition.put(indexOf(order), order);
+        }
+        for (OrderId orderId : orderIds) {
+            idToOrderMap.remove(orderId);
+            // Positions before positionsStaleFrom are exact, the rest are at least positionsStaleFrom
+            positionsStaleFrom = Math.min(positionsStaleFrom, idToPositionMap.remove(orderId));
+        }
+        internalList.removeIf(order -> orderIds.contains(order.getOrderId()));
+
+        // Removing from the back keeps the positions of the orders still to be removed unchanged
+        for (int position : deletedOrdersByPosition.descendingKeySet()) {
+            if (sharedList != null) {
+                sharedList = sharedList.minus(position);
+            }
+            editListener.removed(position);
+        }
+        if (undoLog.isRecording()) {
+            undoLog.record(() -> deletedOrdersByPosition.forEach(this::insertAt));
+        }
+        return deletedOrders;
     }
 
     /**
@@ -96,7 +190,31 @@ public class UniqueOrderList implements Iterable<Order> {
             throw new DuplicateOrderException();
         }
 
-        internalList.setAll(orders);
+        replaceAll(orders);
+    }
+
+    /**
+     * Runs {@code modifications} against this list, notifying listeners of all of them in one change event.
+     */
+    public void batch(Runnable modifications) {
+        internalList.batch(modifications);
+    }
+
+    /**
+     * Returns an immutable copy of the list, in O(1) time once the first copy has been taken.
+     */
+    public List<Order> snapshot() {
+        return currentVersion();
+    }
+
+    /**
+     * Returns the persistent version of the list, creating it if no copy of the list has been taken yet.
+     */
+    private PersistentList<Order> currentVersion() {
+        if (sharedList == null) {
+            sharedList = PersistentList.of(internalList);
+        }
+        return sharedList;
     }
 
     /**
@@ -123,15 +241,145 @@ public class UniqueOrderList implements Iterable<Order> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position of {@code order} in {@code internalList}, or -1 if the list does not contain an order
+     * equal to it. Only the order stored under the same order id is compared.
+     */
+    private int indexOf(Order order) {
+        Integer position = idToPositionMap.get(order.getOrderId());
+        if (position == null) {
+            return -1;
+        }
+
+        if (position >= positionsStaleFrom) {
+            refreshPositions();
+            position = idToPositionMap.get(order.getOrderId());
+        }
+        return internalList.get(position).equals(order) ? position : -1;
+    }
+
+    /**
+     * Recomputes the positions of the orders from {@code positionsStaleFrom} onwards.
+     */
+    private void refreshPositions() {
+        for (int i = positionsStaleFrom; i < internalList.size(); i++) {
+            idToPositionMap.put(internalList.get(i).getOrderId(), i);
+        }
+        positionsStaleFrom = internalList.size();
+    }
+
+    /**
+     * Inserts {@code order} at {@code index} of the list, recording how to undo it.
+     */
+    private void insertAt(int index, Order order) {
+        internalList.add(index, order);
+        idToOrderMap.put(order.getOrderId(), order);
+        idToPositionMap.put(order.getOrderId(), index);
+        if (positionsStaleFrom == index && index == internalList.size() - 1) {
+            positionsStaleFrom++;
+        } else {
+            positionsStaleFrom = Math.min(positionsStaleFrom, index);
+        }
+        addToCustomerIndex(order);
+        if (sharedList != null) {
+            sharedList = sharedList.plus(index, order);
+        }
+        editListener.inserted(index, order);
+        undoLog.record(() -> removeAt(index));
+    }
+
+    /**
+     * Replaces the order at {@code index} of the list with {@code order}, recording how to undo it.
+     */
+    private void replaceAt(int index, Order order) {
+        Order previous = internalList.set(index, order);
+        idToOrderMap.remove(previous.getOrderId());
+        idToPositionMap.remove(previous.getOrderId());
+        idToOrderMap.put(order.getOrderId(), order);
+        idToPositionMap.put(order.getOrderId(), index);
+        removeFromCustomerIndex(previous);
+        addToCustomerIndex(order);
+        if (sharedList != null) {
+            sharedList = sharedList.with(index, order);
+        }
+        editListener.replaced(index, order);
+        undoLog.record(() -> replaceAt(index, previous));
+    }
+
+    /**
+     * Removes the order at {@code index} of the list, recording how to undo it.
+     */
+    private void removeAt(int index) {
+        Order removed = internalList.remove(index);
+        idToOrderMap.remove(removed.getOrderId());
+        idToPositionMap.remove(removed.getOrderId());
+        positionsStaleFrom = Math.min(positionsStaleFrom, index);
+        removeFromCustomerIndex(removed);
+        if (sharedList != null) {
+            sharedList = sharedList.minus(index);
+        }
+        editListener.removed(index);
+        undoLog.record(() -> insertAt(index, removed));
+    }
+
+    /**
+     * Replaces the contents of the list with {@code orders}, recording how to undo it.
+     */
+    private void replaceAll(List<Order> orders) {
+        if (undoLog.isRecording()) {
+            // The replaced version stays intact, so undoing restores it without copying the list here
+            PersistentList<Order> previous = currentVersion();
+            undoLog.record(() -> replaceAll(previous));
+        }
+        internalList.setAll(orders);
+        rebuildIndexes();
+        if (orders instanceof PersistentList) {
+            sharedList = (PersistentList<Order>) orders;
+        } else if (sharedList != null) {
+            sharedList = PersistentList.of(internalList);
+        }
+        editListener.reset();
+    }
+
+    /**
+     * Rebuilds the primary key indexes from the contents of {@code internalList}.
+     */
+    private void rebuildIndexes() {
+        idToOrderMap.clear();
+        idToPositionMap.clear();
+        customerToOrderIdsMap.clear();
+        for (Order order : internalList) {
+            idToOrderMap.put(order.getOrderId(), order);
+            addToCustomerIndex(order);
+        }
+        positionsStaleFrom = 0;
+        refreshPositions();
+    }
+
+    private void addToCustomerIndex(Order order) {
+        customerToOrderIdsMap.computeIfAbsent(order.getCustomerId(), id -> new LinkedHashSet<>())
+                .add(order.getOrderId());
+    }
+
+    private void removeFromCustomerIndex(Order order) {
+        Set<OrderId> orderIds = customerToOrderIdsMap.get(order.getCustomerId());
+        if (orderIds != null) {
+            orderIds.remove(order.getOrderId());
+            if (orderIds.isEmpty()) {
+                customerToOrderIdsMap.remove(order.getCustomerId());
+            }
+        }
+    }
+
     /**
      * Returns true if {@code orders} contains only unique orders.
+     * Order ids are the primary key of the list, so no two orders may share one.
      */
     private boolean ordersAreUnique(List<Order> orders) {
-        for (int i = 0; i < orders.size() - 1; i++) {
-            for (int j = i + 1; j < orders.size(); j++) {
-                if (orders.get(i).isSameOrder(orders.get(j))) {
-                    return false;
-                }
+        Set<OrderId> seenKeys = new HashSet<>();
+        for (Order order : orders) {
+            if (!seenKeys.add(order.getOrderId())) {
+                return false;
             }
         }
         return true;
@@ -3,9 +3,11 @@ package seedu.address.model.order.predicates;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import seedu.address.commons.util.PredicateUtil;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
 import seedu.address.model.util.predicate.SingleFieldPredicate;
 
@@ -16,15 +18,15 @@ public class OrderNamePredicate extends SingleFieldPredicate<Order> {
 
     public static final String MESSAGE_CONSTRAINTS = "Customer name keywords must not be empty.";
 
-    private final List<Customer> customerList;
+    private final Map<CustomerId, Customer> customerIdMap;
 
     /**
      * Creates a predicate to filter orders by the orders' customers' names.
-     * The customer list is needed here to access the orders' customers' information.
+     * The customer id map is needed here to access the orders' customers' information.
      */
-    public OrderNamePredicate(List<String> keywords, List<Customer> customerList) {
+    public OrderNamePredicate(List<String> keywords, Map<CustomerId, Customer> customerIdMap) {
         super(keywords);
-        this.customerList = customerList;
+        this.customerIdMap = customerIdMap;
     }
 
     @Override
@@ -45,15 +47,11 @@ public class OrderNamePredicate extends SingleFieldPredicate<Order> {
     public boolean equals(Object other) {
         return (other instanceof SingleFieldPredicate)
                 && super.equals(other)
-                && this.customerList.equals(((OrderNamePredicate) other).customerList);
+                && this.customerIdMap.equals(((OrderNamePredicate) other).customerIdMap);
     }
 
     private String getNameByOrder(Order order) {
-        Customer matchingCustomer = customerList
-                .stream()
-                .filter(customer -> customer.getId().equals(order.getCustomerId()))
-                .findAny()
-                .orElse(null);
+        Customer matchingCustomer = customerIdMap.get(order.getCustomerId());
         return matchingCustomer != null ? matchingCustomer.getName().toString() : null;
     }
 
@@ -3,9 +3,11 @@ package seedu.address.model.order.predicates;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import seedu.address.commons.util.PredicateUtil;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
 import seedu.address.model.util.predicate.SingleFieldPredicate;
 
@@ -16,15 +18,15 @@ public class OrderPhonePredicate extends SingleFieldPredicate<Order> {
 
     public static final String MESSAGE_CONSTRAINTS = "Phone number keywords must be numerical and not empty.";
 
-    private final List<Customer> customerList;
+    private final Map<CustomerId, Customer> customerIdMap;
 
     /**
      * Creates a predicate to filter orders by the orders' customers' phone numbers.
-     * The customer list is needed here to access the orders' customers' information.
+     * The customer id map is needed here to access the orders' customers' information.
      */
-    public OrderPhonePredicate(List<String> keywords, List<Customer> customerList) {
+    public OrderPhonePredicate(List<String> keywords, Map<CustomerId, Customer> customerIdMap) {
         super(keywords);
-        this.customerList = customerList;
+        this.customerIdMap = customerIdMap;
     }
 
     /**
@@ -53,15 +55,11 @@ public class OrderPhonePredicate extends SingleFieldPredicate<Order> {
     public boolean equals(Object other) {
         return (other instanceof SingleFieldPredicate)
                 && super.equals(other)
-                && this.customerList.equals(((OrderPhonePredicate) other).customerList);
+                && this.customerIdMap.equals(((OrderPhonePredicate) other).customerIdMap);
     }
 
     private String getPhoneByOrder(Order order) {
-        Customer matchingCustomer = customerList
-                .stream()
-                .filter(customer -> customer.getId().equals(order.getCustomerId()))
-                .findAny()
-                .orElse(null);
+        Customer matchingCustomer = customerIdMap.get(order.getCustomerId());
         return matchingCustomer != null ? matchingCustomer.getPhone().toString() : null;
     }
 }
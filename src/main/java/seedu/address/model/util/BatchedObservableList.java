@@ -0,0 +1,116 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose modifications can be grouped with {@link #batch(Runnable)},
+ * so that listeners are notified of all of them in a single change event.
+ * @param <E> element type
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+    private List<E> backingList = new ArrayList<>();
+
+    /**
+     * Runs {@code modifications} against this list, and notifies listeners of all of them once they complete.
+     * Batches may be nested, in which case listeners are notified when the outermost batch completes.
+     */
+    public void batch(Runnable modifications) {
+        requireNonNull(modifications);
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+
+    /**
+     * Replaces the contents of this list in a single step, rather than removing and adding elements one by one.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        beginChange();
+        try {
+            List<E> removed = backingList;
+            backingList = new ArrayList<>(elements);
+            modCount++;
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!backingList.isEmpty()) {
+                nextAdd(0, backingList.size());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the elements matching {@code filter} in a single pass over the list,
+     * notifying listeners of all the removals in one change event.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        requireNonNull(filter);
+        beginChange();
+        try {
+            int kept = 0;
+            for (int i = 0; i < backingList.size(); i++) {
+                E element = backingList.get(i);
+                if (filter.test(element)) {
+                    nextRemove(kept, element);
+                } else {
+                    backingList.set(kept++, element);
+                }
+            }
+
+            int removedCount = backingList.size() - kept;
+            if (removedCount > 0) {
+                backingList.subList(kept, backingList.size()).clear();
+                modCount++;
+            }
+            return removedCount > 0;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+}
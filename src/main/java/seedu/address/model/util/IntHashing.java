@@ -0,0 +1,39 @@
+package seedu.address.model.util;
+
+/**
+ * Sizing and hashing shared by the open-addressing {@code int} collections in this package.
+ */
+class IntHashing {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Returns the slot of {@code key} in a table of {@code mask + 1} slots, where the table size is a power of two.
+     * Ids are mostly consecutive, so the low bits are kept as they are: consecutive ids fill consecutive slots
+     * without colliding, and lookups in id order walk the table sequentially. The high bits are folded in,
+     * as in {@code HashMap}, so that ids far apart still spread over small tables.
+     */
+    static int slotOf(int key, int mask) {
+        return (key ^ (key >>> 16)) & mask;
+    }
+
+    /**
+     * Returns the smallest power-of-two table size that holds {@code expectedSize} keys below the load limit.
+     */
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative.");
+        }
+        int capacity = 2;
+        while (capacity < MAX_CAPACITY && thresholdOf(capacity) < expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the number of keys a table of {@code capacity} slots holds before it is resized, a load of 2/3.
+     */
+    static int thresholdOf(int capacity) {
+        return (int) (capacity * 2L / 3);
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.model.util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code int} keys to primitive {@code int} values, using open addressing with
+ * linear probing. Keys and values are stored unboxed in two parallel arrays.
+ */
+public class IntIntMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    // Marks an empty slot; a mapping for the key 0 itself is tracked separately
+    private static final int EMPTY = 0;
+
+    private int[] keys;
+    private int[] values;
+    private boolean containsZero;
+    private int zeroValue;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntIntMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} mappings without resizing.
+     */
+    public IntIntMap(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if {@code key} is mapped to a value.
+     */
+    public boolean containsKey(int key) {
+        if (key == EMPTY) {
+            return containsZero;
+        }
+        return keys[indexOf(key)] == key;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code defaultValue} if there is none.
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == EMPTY) {
+            return containsZero ? zeroValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : defaultValue;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any value previously mapped to {@code key}.
+     */
+    public void put(int key, int value) {
+        if (key == EMPTY) {
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        int index = indexOf(key);
+        values[index] = value;
+        if (keys[index] == key) {
+            return;
+        }
+        keys[index] = key;
+        if (++size > resizeThreshold) {
+            allocate(keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes the mapping for {@code key}. Returns true if there was one.
+     */
+    public boolean remove(int key) {
+        if (key == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int index = indexOf(key);
+        if (keys[index] != key) {
+            return false;
+        }
+
+        // Shift later entries of the probe sequence back, so that no lookup stops early at the vacated slot
+        int mask = keys.length - 1;
+        int vacant = index;
+        for (int i = (index + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            int home = IntHashing.slotOf(keys[i], mask);
+            if (((i - home) & mask) >= ((i - vacant) & mask)) {
+                keys[vacant] = keys[i];
+                values[vacant] = values[i];
+                vacant = i;
+            }
+        }
+        keys[vacant] = EMPTY;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the empty slot where it would be inserted.
+     */
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = IntHashing.slotOf(key, mask);
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the slot arrays with ones of {@code capacity} slots, re-inserting the existing mappings.
+     */
+    private void allocate(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        resizeThreshold = IntHashing.thresholdOf(capacity);
+
+        if (oldKeys != null) {
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int index = indexOf(oldKeys[i]);
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+}
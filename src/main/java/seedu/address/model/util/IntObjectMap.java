@@ -0,0 +1,153 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A hash map from primitive {@code int} keys to non-null values, using open addressing with linear probing.
+ * Keys are stored unboxed in a single array, so no key objects or entry objects are allocated per mapping.
+ * @param <V> value type
+ */
+public class IntObjectMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] keys;
+    // A null value marks an empty slot
+    private Object[] values;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} mappings without resizing.
+     */
+    public IntObjectMap(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return values[indexOf(key)] != null;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        return (V) values[indexOf(key)];
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, returning the value previously mapped to {@code key} or null if there was
+     * none.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        requireNonNull(value);
+        int index = indexOf(key);
+        V previous = (V) values[index];
+        keys[index] = key;
+        values[index] = value;
+        if (previous == null && ++size > resizeThreshold) {
+            allocate(keys.length * 2);
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the mapping for {@code key}, returning its value or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int index = indexOf(key);
+        V previous = (V) values[index];
+        if (previous == null) {
+            return null;
+        }
+
+        // Shift later entries of the probe sequence back, so that no lookup stops early at the vacated slot
+        int mask = keys.length - 1;
+        int vacant = index;
+        for (int i = (index + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = IntHashing.slotOf(keys[i], mask);
+            if (((i - home) & mask) >= ((i - vacant) & mask)) {
+                keys[vacant] = keys[i];
+                values[vacant] = values[i];
+                vacant = i;
+            }
+        }
+        values[vacant] = null;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Performs {@code action} on every value in the map, in no particular order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        requireNonNull(action);
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the empty slot where it would be inserted.
+     */
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = IntHashing.slotOf(key, mask);
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the slot arrays with ones of {@code capacity} slots, re-inserting the existing mappings.
+     */
+    private void allocate(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        resizeThreshold = IntHashing.thresholdOf(capacity);
+
+        if (oldValues != null) {
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    int index = indexOf(oldKeys[i]);
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+}
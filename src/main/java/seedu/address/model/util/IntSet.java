@@ -0,0 +1,173 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A hash set of primitive {@code int} values, using open addressing with linear probing.
+ * Values are stored unboxed in a single array.
+ */
+public class IntSet {
+    private static final int DEFAULT_CAPACITY = 16;
+    // Marks an empty slot; whether 0 itself is in the set is tracked separately
+    private static final int EMPTY = 0;
+
+    private int[] slots;
+    private boolean containsZero;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Creates an empty set.
+     */
+    public IntSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty set that holds {@code expectedSize} values without resizing.
+     */
+    public IntSet(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if {@code value} is in the set.
+     */
+    public boolean contains(int value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        return slots[indexOf(value)] == value;
+    }
+
+    /**
+     * Adds {@code value} to the set. Returns true if it was not already present.
+     */
+    public boolean add(int value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value);
+        if (slots[index] == value) {
+            return false;
+        }
+        slots[index] = value;
+        if (++size > resizeThreshold) {
+            allocate(slots.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes {@code value} from the set. Returns true if it was present.
+     */
+    public boolean remove(int value) {
+        if (value == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int index = indexOf(value);
+        if (slots[index] != value) {
+            return false;
+        }
+
+        // Shift later values of the probe sequence back, so that no lookup stops early at the vacated slot
+        int mask = slots.length - 1;
+        int vacant = index;
+        for (int i = (index + 1) & mask; slots[i] != EMPTY; i = (i + 1) & mask) {
+            int home = IntHashing.slotOf(slots[i], mask);
+            if (((i - home) & mask) >= ((i - vacant) & mask)) {
+                slots[vacant] = slots[i];
+                vacant = i;
+            }
+        }
+        slots[vacant] = EMPTY;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Performs {@code action} on every value in the set, in no particular order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        if (containsZero) {
+            action.accept(EMPTY);
+        }
+        for (int value : slots) {
+            if (value != EMPTY) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the values in the set, in no particular order.
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int[] position = {0};
+        forEach(value -> values[position[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns the slot holding {@code value}, or the empty slot where it would be inserted.
+     */
+    private int indexOf(int value) {
+        int mask = slots.length - 1;
+        int index = IntHashing.slotOf(value, mask);
+        while (slots[index] != EMPTY && slots[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the slot array with one of {@code capacity} slots, re-inserting the existing values.
+     */
+    private void allocate(int capacity) {
+        int[] oldSlots = slots;
+        slots = new int[capacity];
+        resizeThreshold = IntHashing.thresholdOf(capacity);
+
+        if (oldSlots != null) {
+            for (int value : oldSlots) {
+                if (value != EMPTY) {
+                    slots[indexOf(value)] = value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.util;
+
+/**
+ * Receives each modification of a list, identified by position, as it is made.
+ * Unlike a {@code ListChangeListener}, it is told of every modification on its own, even within a batch.
+ */
+public interface ListEditListener<T> {
+
+    /**
+     * Called after {@code element} was inserted at {@code index}.
+     */
+    void inserted(int index, T element);
+
+    /**
+     * Called after the element at {@code index} was replaced by {@code element}.
+     */
+    void replaced(int index, T element);
+
+    /**
+     * Called after the element at {@code index} was removed.
+     */
+    void removed(int index);
+
+    /**
+     * Called after every element of the list was replaced.
+     */
+    void reset();
+
+    /**
+     * Returns a listener that ignores every modification.
+     */
+    static <T> ListEditListener<T> ignoringEdits() {
+        return new ListEditListener<>() {
+            @Override
+            public void inserted(int index, T element) {
+            }
+
+            @Override
+            public void replaced(int index, T element) {
+            }
+
+            @Override
+            public void removed(int index) {
+            }
+
+            @Override
+            public void reset() {
+            }
+        };
+    }
+}
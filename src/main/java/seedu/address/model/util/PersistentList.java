@@ -0,0 +1,253 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that is modified by creating new versions of it.
+ * Each version shares all but O(log n) of its nodes with the version it was made from, so versions are cheap to keep,
+ * and a version never changes once created, so it may be read from any thread.
+ *
+ * The elements are held in a weight-balanced binary tree ordered by position, in which each node records the size of
+ * its subtree. Reading, replacing, inserting or removing the element at any position takes O(log n) time.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+    // Balance parameters from Adams' weight-balanced trees, as used by Haskell's Data.Map
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order, in O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> of(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build((T[]) array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        return get(root, index);
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> with(int index, T element) {
+        checkIndex(index, size());
+        return new PersistentList<>(with(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<T> plus(int index, T element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(plus(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} appended.
+     */
+    public PersistentList<T> plus(T element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        Node<T> newRoot = minus(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    /**
+     * Iterates over the elements in order in O(n) time, rather than looking up each position.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                descendLeft(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                descendLeft(node.right);
+                return node.value;
+            }
+
+            private void descendLeft(Node<T> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <T> T get(Node<T> node, int index) {
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    private static <T> Node<T> build(T[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return node(build(elements, from, mid), elements[mid], build(elements, mid + 1, to));
+    }
+
+    private static <T> Node<T> with(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(with(node.left, index, element), node.value, node.right, node.size);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, with(node.right, index - leftSize - 1, element), node.size);
+        } else {
+            return new Node<>(node.left, element, node.right, node.size);
+        }
+    }
+
+    private static <T> Node<T> plus(Node<T> node, int index, T element) {
+        if (node == null) {
+            return node(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(plus(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, plus(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <T> Node<T> minus(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(minus(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, minus(node.right, index - leftSize - 1));
+        } else {
+            return glue(node.left, node.right);
+        }
+    }
+
+    /**
+     * Joins two balanced subtrees whose sizes differ by at most a factor of {@code DELTA}, by moving the element
+     * nearest the join from the larger subtree to the new root.
+     */
+    private static <T> Node<T> glue(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.size > right.size) {
+            int last = left.size - 1;
+            return balance(minus(left, last), get(left, last), right);
+        } else {
+            return balance(left, get(right, 0), minus(right, 0));
+        }
+    }
+
+    /**
+     * Creates a node from subtrees that were balanced before one element was inserted into or removed from either
+     * of them, rotating once if needed to restore the balance.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        int leftSize = size(left);
+        int rightSize = size(right);
+        if (leftSize + rightSize <= 1) {
+            return node(left, value, right);
+        } else if (rightSize > DELTA * leftSize) {
+            return size(right.left) < RATIO * size(right.right)
+                    ? node(node(left, value, right.left), right.value, right.right)
+                    : node(node(left, value, right.left.left), right.left.value,
+                            node(right.left.right, right.value, right.right));
+        } else if (leftSize > DELTA * rightSize) {
+            return size(left.right) < RATIO * size(left.left)
+                    ? node(left.left, left.value, node(left.right, value, right))
+                    : node(node(left.left, left.value, left.right.left), left.right.value,
+                            node(left.right.right, value, right));
+        } else {
+            return node(left, value, right);
+        }
+    }
+
+    private static <T> Node<T> node(Node<T> left, T value, Node<T> right) {
+        return new Node<>(left, value, right, size(left) + size(right) + 1);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+
+        private Node(Node<T> left, T value, Node<T> right, int size) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import seedu.address.model.AbstractId;
+
+/**
+ * An immutable set of {@code int} values, stored as a sorted array without duplicates.
+ * Takes four bytes per value, and answers membership queries by binary search.
+ */
+public class SortedIntSet {
+    public static final SortedIntSet EMPTY = new SortedIntSet(new int[0]);
+
+    private final int[] values;
+
+    private SortedIntSet(int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a set of the given {@code values}, which may be unsorted and contain duplicates.
+     */
+    public static SortedIntSet of(int... values) {
+        requireNonNull(values);
+        if (values.length == 0) {
+            return EMPTY;
+        }
+
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return new SortedIntSet(distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct));
+    }
+
+    /**
+     * Returns a set of the values of the given {@code ids}.
+     */
+    public static SortedIntSet ofIds(Set<? extends AbstractId<?>> ids) {
+        requireNonNull(ids);
+        return of(ids.stream().mapToInt(id -> id.value).toArray());
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * Returns the values in the set, in ascending order.
+     */
+    public int[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * Returns a read-only {@code Set} view of this set, presenting each value as the id that {@code toId} maps it to.
+     * Membership of an id is decided by its value, as in {@code AbstractId#equals(Object)}.
+     * The view iterates over the ids in ascending order.
+     */
+    public <T extends AbstractId<?>> Set<T> asUnmodifiableIdSet(IntFunction<T> toId) {
+        requireNonNull(toId);
+        return new AbstractSet<>() {
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof AbstractId && SortedIntSet.this.contains(((AbstractId<?>) o).value);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return new Iterator<>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public T next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return toId.apply(values[next++]);
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortedIntSet // instanceof handles nulls
+                && Arrays.equals(values, ((SortedIntSet) other).values));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records how to undo each modification made during a transaction, so that a transaction that fails part way
+ * can be rolled back. Only the entries a modification touches are recorded, and nothing is recorded outside
+ * a transaction unless the log is journaling.
+ *
+ * A journaling log keeps the records of every modification, in or out of a transaction, until they are taken
+ * with {@code takeJournal()}, so that whole commands can be undone later.
+ */
+public class UndoLog {
+    private static final int NOT_IN_TRANSACTION = -1;
+
+    private final Deque<Runnable> undoOperations = new ArrayDeque<>();
+    private boolean isJournaling = false;
+    // The number of records that were in the log when the running transaction began
+    private int transactionStart = NOT_IN_TRANSACTION;
+    private boolean isRollingBack = false;
+
+    /**
+     * Returns true if modifications should currently be recorded.
+     */
+    public boolean isRecording() {
+        return (isJournaling || transactionStart != NOT_IN_TRANSACTION) && !isRollingBack;
+    }
+
+    /**
+     * Starts or stops keeping the records of every modification. Stopping discards the records not yet taken.
+     */
+    public void setJournaling(boolean isJournaling) {
+        this.isJournaling = isJournaling;
+        if (!isJournaling && transactionStart == NOT_IN_TRANSACTION) {
+            undoOperations.clear();
+        }
+    }
+
+    /**
+     * Records {@code undoOperation} as undoing the modification that was just made, if the log is recording.
+     * When run, {@code undoOperation} may assume that every later modification has already been undone.
+     */
+    public void record(Runnable undoOperation) {
+        requireNonNull(undoOperation);
+        if (isRecording()) {
+            undoOperations.push(undoOperation);
+        }
+    }
+
+    /**
+     * Runs {@code operations} as a transaction. If {@code operations} throws, every modification recorded since
+     * the transaction began is undone, most recent first, and the exception is rethrown.
+     * A transaction started while another is running joins it, and is only rolled back with it.
+     */
+    public void runTransaction(Runnable operations) {
+        requireNonNull(operations);
+        if (transactionStart != NOT_IN_TRANSACTION) {
+            operations.run();
+            return;
+        }
+
+        transactionStart = undoOperations.size();
+        try {
+            operations.run();
+        } catch (RuntimeException | Error e) {
+            rollback();
+            throw e;
+        } finally {
+            if (!isJournaling) {
+                undoOperations.clear();
+            }
+            transactionStart = NOT_IN_TRANSACTION;
+        }
+    }
+
+    /**
+     * Returns an operation that undoes every modification recorded since journaling started or the journal was
+     * last taken, or an empty {@code Optional} if there were none. The records are removed from the log.
+     * The operation must be run before any modification that has not been recorded in this log.
+     */
+    public Optional<Runnable> takeJournal() {
+        if (undoOperations.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Iterating the deque visits the most recent record first
+        List<Runnable> journal = new ArrayList<>(undoOperations);
+        undoOperations.clear();
+        return Optional.of(() -> journal.forEach(Runnable::run));
+    }
+
+    private void rollback() {
+        isRollingBack = true;
+        try {
+            while (undoOperations.size() > transactionStart) {
+                undoOperations.pop().run();
+            }
+        } finally {
+            isRollingBack = false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.util;
+
+import seedu.address.model.customer.Address;
+import seedu.address.model.customer.Email;
+import seedu.address.model.customer.Name;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Canonicalises the customer value objects that often repeat across customers, such as tags and addresses,
+ * so that customers loaded from storage or parsed from commands share one instance per distinct value.
+ * Interning can be turned off, in which case each value is returned as it is.
+ */
+public class ValueInterner {
+    private static final WeakInterner<Name> names = new WeakInterner<>();
+    private static final WeakInterner<Address> addresses = new WeakInterner<>();
+    private static final WeakInterner<Email> emails = new WeakInterner<>();
+    private static final WeakInterner<Tag> tags = new WeakInterner<>();
+
+    private static volatile boolean isEnabled = true;
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public static void setEnabled(boolean isEnabled) {
+        ValueInterner.isEnabled = isEnabled;
+    }
+
+    public static Name intern(Name name) {
+        return isEnabled ? names.intern(name) : name;
+    }
+
+    public static Address intern(Address address) {
+        return isEnabled ? addresses.intern(address) : address;
+    }
+
+    public static Email intern(Email email) {
+        return isEnabled ? emails.intern(email) : email;
+    }
+
+    public static Tag intern(Tag tag) {
+        return isEnabled ? tags.intern(tag) : tag;
+    }
+}
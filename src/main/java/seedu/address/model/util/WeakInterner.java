@@ -0,0 +1,39 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share one instance.
+ * Instances are held weakly, and are dropped from the pool once nothing else refers to them.
+ * Safe to use from multiple threads.
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}
+ */
+public class WeakInterner<T> {
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool that have not yet been garbage collected.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,558 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AbstractDate;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.ExpiryDate;
+import seedu.address.model.cheese.ManufactureDate;
+import seedu.address.model.cheese.MaturityDate;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.order.CompletedDate;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderDate;
+import seedu.address.model.order.OrderId;
+import seedu.address.model.order.Quantity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot file on the hard disk.
+ *
+ * The file begins with the bytes {@code CHIM} and the version of its format, followed by a pool of the strings of
+ * the customers, a table of the cheese types of the cheeses and orders, then the customers, cheeses and orders,
+ * and ends with a CRC32 checksum of everything before it. Each string and cheese type is written once, and
+ * referred to by its index. Integers are written as variable-length integers, so that small ids take a single
+ * byte, and dates as minutes since the epoch, the precision they are saved with in a json file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'C', 'H', 'I', 'M'};
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+
+    // Flags of a cheese
+    static final int IS_ASSIGNED = 1;
+    static final int HAS_MATURITY_DATE = 1 << 1;
+    static final int HAS_EXPIRY_DATE = 1 << 2;
+
+    // Flags of an order
+    static final int HAS_COMPLETED_DATE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} begins as a binary snapshot does.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        return startsWith(filePath, MAGIC);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and begins with {@code magic}.
+     */
+    static boolean startsWith(Path filePath, byte[] magic) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        byte[] header = new byte[magic.length];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return in.readNBytes(header, 0, header.length) == header.length && Arrays.equals(header, magic);
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        byte[] content = Files.readAllBytes(filePath);
+        try {
+            return Optional.of(decode(content));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | IllegalArgumentException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out -> encode(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format of a binary snapshot.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Dictionary strings = new Dictionary();
+        for (Customer customer : addressBook.getCustomerList()) {
+            strings.add(customer.getName().fullName);
+            strings.add(customer.getPhone().value);
+            strings.add(customer.getEmail().value);
+            strings.add(customer.getAddress().value);
+            for (Tag tag : customer.getTags()) {
+                strings.add(tag.tagName);
+            }
+        }
+        Dictionary cheeseTypes = new Dictionary();
+        for (Cheese cheese : addressBook.getCheeseList()) {
+            cheeseTypes.add(cheese.getCheeseType().value);
+        }
+        for (Order order : addressBook.getOrderList()) {
+            cheeseTypes.add(order.getCheeseType().value);
+        }
+
+        Encoder encoder = new Encoder(out);
+        encoder.writeBytes(MAGIC);
+        encoder.writeInt(FORMAT_VERSION);
+        strings.writeTo(encoder);
+        cheeseTypes.writeTo(encoder);
+
+        encoder.writeInt(addressBook.getCustomerList().size());
+        for (Customer customer : addressBook.getCustomerList()) {
+            encoder.writeInt(customer.getId().value);
+            encoder.writeInt(strings.indexOf(customer.getName().fullName));
+            encoder.writeInt(strings.indexOf(customer.getPhone().value));
+            encoder.writeInt(strings.indexOf(customer.getEmail().value));
+            encoder.writeInt(strings.indexOf(customer.getAddress().value));
+            encoder.writeInt(customer.getTags().size());
+            for (Tag tag : customer.getTags()) {
+                encoder.writeInt(strings.indexOf(tag.tagName));
+            }
+        }
+
+        encoder.writeInt(addressBook.getCheeseList().size());
+        for (Cheese cheese : addressBook.getCheeseList()) {
+            int flags = (cheese.isCheeseAssigned() ? IS_ASSIGNED : 0)
+                    | (cheese.getMaturityDate().isPresent() ? HAS_MATURITY_DATE : 0)
+                    | (cheese.getExpiryDate().isPresent() ? HAS_EXPIRY_DATE : 0);
+            encoder.writeInt(cheese.getCheeseId().value);
+            encoder.writeInt(cheeseTypes.indexOf(cheese.getCheeseType().value));
+            encoder.writeInt(flags);
+            encoder.writeDate(cheese.getManufactureDate());
+            if (cheese.getMaturityDate().isPresent()) {
+                encoder.writeDate(cheese.getMaturityDate().get());
+            }
+            if (cheese.getExpiryDate().isPresent()) {
+                encoder.writeDate(cheese.getExpiryDate().get());
+            }
+        }
+
+        encoder.writeInt(addressBook.getOrderList().size());
+        for (Order order : addressBook.getOrderList()) {
+            int flags = order.getCompletedDate().isPresent() ? HAS_COMPLETED_DATE : 0;
+            encoder.writeInt(order.getOrderId().value);
+            encoder.writeInt(cheeseTypes.indexOf(order.getCheeseType().value));
+            encoder.writeInt(order.getQuantity().value);
+            encoder.writeInt(flags);
+            encoder.writeDate(order.getOrderDate());
+            if (order.getCompletedDate().isPresent()) {
+                encoder.writeDate(order.getCompletedDate().get());
+            }
+            encoder.writeInt(order.getCustomerId().value);
+            int[] cheeseIds = order.getCheeseIdValues();
+            encoder.writeInt(cheeseIds.length);
+            for (int cheeseId : cheeseIds) {
+                encoder.writeInt(cheeseId);
+            }
+        }
+
+        encoder.finish();
+    }
+
+    /**
+     * Reads the address book in a binary snapshot.
+     *
+     * @throws IOException if {@code content} is not a binary snapshot, or is damaged.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook decode(byte[] content) throws IOException, IllegalValueException {
+        int bodyLength = content.length - CHECKSUM_LENGTH;
+        if (bodyLength < MAGIC.length || !Arrays.equals(content, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+            throw new IOException("Not a binary address book");
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(content, 0, bodyLength);
+        if ((int) checksum.getValue() != ByteBuffer.wrap(content, bodyLength, CHECKSUM_LENGTH).getInt()) {
+            throw new IOException("Binary address book is damaged: its checksum does not match");
+        }
+
+        Decoder decoder = new Decoder(ByteBuffer.wrap(content, MAGIC.length, bodyLength - MAGIC.length));
+        try {
+            int version = decoder.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported binary address book version " + version);
+            }
+
+            String[] strings = new String[decoder.readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = decoder.readString();
+            }
+            CheeseType[] cheeseTypes = new CheeseType[decoder.readCount()];
+            for (int i = 0; i < cheeseTypes.length; i++) {
+                String cheeseType = decoder.readString();
+                if (!CheeseType.isValidType(cheeseType)) {
+                    throw new IllegalValueException(CheeseType.MESSAGE_CONSTRAINTS);
+                }
+                cheeseTypes[i] = CheeseType.getCheeseType(cheeseType);
+            }
+
+            List<Customer> customerList = new ArrayList<>();
+            for (int count = decoder.readCount(); customerList.size() < count; ) {
+                customerList.add(readCustomer(decoder, strings));
+            }
+            List<Cheese> cheeseList = new ArrayList<>();
+            for (int count = decoder.readCount(); cheeseList.size() < count; ) {
+                cheeseList.add(readCheese(decoder, cheeseTypes));
+            }
+            List<Order> orderList = new ArrayList<>();
+            for (int count = decoder.readCount(); orderList.size() < count; ) {
+                orderList.add(readOrder(decoder, cheeseTypes));
+            }
+            if (decoder.hasRemaining()) {
+                throw new IOException("Binary address book has data after its orders");
+            }
+
+            return JsonSerializableAddressBook.toAddressBook(customerList, cheeseList, orderList);
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Binary address book ends part way through");
+        }
+    }
+
+    private static Customer readCustomer(Decoder decoder, String[] strings)
+            throws IOException, IllegalValueException {
+        int customerId = decoder.readInt();
+        String name = decoder.readEntry(strings);
+        String phone = decoder.readEntry(strings);
+        String email = decoder.readEntry(strings);
+        String address = decoder.readEntry(strings);
+        List<String> tagNames = new ArrayList<>();
+        for (int count = decoder.readCount(); tagNames.size() < count; ) {
+            tagNames.add(decoder.readEntry(strings));
+        }
+        return JsonAdaptedCustomer.toModelType(name, phone, email, address, customerId, tagNames);
+    }
+
+    private static Cheese readCheese(Decoder decoder, CheeseType[] cheeseTypes)
+            throws IOException, IllegalValueException {
+        int cheeseId = decoder.readInt();
+        CheeseType cheeseType = decoder.readEntry(cheeseTypes);
+        int flags = decoder.readInt();
+        LocalDateTime manufactureDate = decoder.readDate();
+        LocalDateTime maturityDate = (flags & HAS_MATURITY_DATE) != 0 ? decoder.readDate() : null;
+        LocalDateTime expiryDate = (flags & HAS_EXPIRY_DATE) != 0 ? decoder.readDate() : null;
+        return toModelCheese(cheeseId, cheeseType, manufactureDate, maturityDate, expiryDate,
+                (flags & IS_ASSIGNED) != 0);
+    }
+
+    private static Order readOrder(Decoder decoder, CheeseType[] cheeseTypes)
+            throws IOException, IllegalValueException {
+        int orderId = decoder.readInt();
+        CheeseType cheeseType = decoder.readEntry(cheeseTypes);
+        int quantity = decoder.readInt();
+        int flags = decoder.readInt();
+        LocalDateTime orderDate = decoder.readDate();
+        LocalDateTime completedDate = (flags & HAS_COMPLETED_DATE) != 0 ? decoder.readDate() : null;
+        int customerId = decoder.readInt();
+        int[] cheeseIds = new int[decoder.readCount()];
+        for (int i = 0; i < cheeseIds.length; i++) {
+            cheeseIds[i] = decoder.readInt();
+        }
+        return toModelOrder(orderId, cheeseType, quantity, orderDate, completedDate, customerId, cheeseIds);
+    }
+
+    /**
+     * Converts the given cheese details, as stored in a binary snapshot, into the model's {@code Cheese} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the cheese details.
+     */
+    static Cheese toModelCheese(int cheeseId, CheeseType cheeseType, LocalDateTime manufactureDate,
+            LocalDateTime maturityDate, LocalDateTime expiryDate, boolean isAssigned) throws IllegalValueException {
+        if (!CheeseId.isValidId(cheeseId)) {
+            throw new IllegalValueException(CheeseId.MESSAGE_CONSTRAINTS);
+        }
+        return new Cheese(cheeseType, new ManufactureDate(manufactureDate),
+                maturityDate == null ? null : new MaturityDate(maturityDate),
+                expiryDate == null ? null : new ExpiryDate(expiryDate),
+                CheeseId.getNextId(cheeseId), isAssigned);
+    }
+
+    /**
+     * Converts the given order details, as stored in a binary snapshot, into the model's {@code Order} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the order details.
+     */
+    static Order toModelOrder(int orderId, CheeseType cheeseType, int quantity, LocalDateTime orderDate,
+            LocalDateTime completedDate, int customerId, int[] cheeseIds) throws IllegalValueException {
+        if (!OrderId.isValidId(orderId)) {
+            throw new IllegalValueException(OrderId.MESSAGE_CONSTRAINTS);
+        }
+        if (!Quantity.isValidQuantity(quantity)) {
+            throw new IllegalValueException(Quantity.MESSAGE_CONSTRAINTS);
+        }
+        if (!CustomerId.isValidId(customerId)) {
+            throw new IllegalValueException(CustomerId.MESSAGE_CONSTRAINTS);
+        }
+        for (int cheeseId : cheeseIds) {
+            if (!CheeseId.isValidId(cheeseId)) {
+                throw new IllegalValueException(CheeseId.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return new Order(cheeseType, new Quantity(quantity), new OrderDate(orderDate),
+                completedDate == null ? null : new CompletedDate(completedDate), cheeseIds,
+                OrderId.getNextId(orderId), CustomerId.getNextId(customerId));
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to {@code date}, rounded down.
+     */
+    static long toEpochMinute(AbstractDate date) {
+        return Math.floorDiv(date.value.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Returns the date time {@code epochMinute} minutes from the epoch.
+     *
+     * @throws IllegalValueException if the date time is out of range.
+     */
+    static LocalDateTime toDateTime(long epochMinute) throws IllegalValueException {
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, 60), 0, ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IllegalValueException(AbstractDate.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * The distinct strings of a section of a snapshot, in the order they were first added.
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> entries = new ArrayList<>();
+
+        void add(String entry) {
+            if (indices.putIfAbsent(entry, entries.size()) == null) {
+                entries.add(entry);
+            }
+        }
+
+        int indexOf(String entry) {
+            return indices.get(entry);
+        }
+
+        void writeTo(Encoder encoder) throws IOException {
+            encoder.writeInt(entries.size());
+            for (String entry : entries) {
+                encoder.writeString(entry);
+            }
+        }
+    }
+
+    /**
+     * Writes the values of a snapshot to a stream through a buffer, keeping the checksum of what it wrote.
+     */
+    private static class Encoder {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[64 * 1024];
+        private final CRC32 checksum = new CRC32();
+        private int position;
+
+        Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes a non-negative integer in as few bytes as it needs, seven bits to a byte.
+         */
+        void writeInt(int value) throws IOException {
+            writeLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeDate(AbstractDate date) throws IOException {
+            long minutes = toEpochMinute(date);
+            // Zigzag encoded, so that dates shortly before the epoch stay short
+            writeLong((minutes << 1) ^ (minutes >> 63));
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            for (byte b : bytes) {
+                writeByte(b);
+            }
+        }
+
+        /**
+         * Writes the checksum after what was written, then flushes the buffer.
+         */
+        void finish() throws IOException {
+            flushBuffer();
+            out.write(ByteBuffer.allocate(CHECKSUM_LENGTH).putInt((int) checksum.getValue()).array());
+            out.flush();
+        }
+
+        private void writeLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        private void writeByte(int b) throws IOException {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) b;
+        }
+
+        private void flushBuffer() throws IOException {
+            checksum.update(buffer, 0, position);
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Reads the values of a snapshot written by an {@code Encoder}.
+     * Reading past the end of the snapshot throws a {@code BufferUnderflowException}.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readInt() throws IOException {
+            long value = readLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException("Binary address book has an integer out of range");
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads the number of values that follow, each of which takes at least a byte.
+         */
+        int readCount() throws IOException {
+            int count = readInt();
+            if (count > buffer.remaining()) {
+                throw new EOFException("Binary address book ends part way through");
+            }
+            return count;
+        }
+
+        <T> T readEntry(T[] entries) throws IOException {
+            int index = readInt();
+            if (index >= entries.length) {
+                throw new IOException("Binary address book refers to a missing entry " + index);
+            }
+            return entries[index];
+        }
+
+        LocalDateTime readDate() throws IOException, IllegalValueException {
+            long zigzag = readLong();
+            return toDateTime((zigzag >>> 1) ^ -(zigzag & 1));
+        }
+
+        String readString() throws IOException {
+            byte[] bytes = new byte[readCount()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        boolean hasRemaining() {
+            return buffer.hasRemaining();
+        }
+
+        private long readLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Binary address book has an integer out of range");
+        }
+    }
+}
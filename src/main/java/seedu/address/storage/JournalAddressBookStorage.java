@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.Kind;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file on the hard disk, followed by a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Each save appends the changes made since the previous save to the journal, one line of compact json per change,
+ * so a save takes time proportional to the size of the changes rather than of the address book, and a save with no
+ * changes does not touch the disk. Each append is forced to the disk before the save returns. The snapshot is
+ * rewritten, and the journal emptied, only when the journal has grown too long, when a whole list was replaced, or
+ * when the changes since the previous save are unknown.
+ *
+ * The snapshot has the same format as the file of a {@code JsonAddressBookStorage}. The journal begins with the
+ * checksum of the snapshot it follows, so that a journal left behind by an interrupted rewrite is ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    // The number of changes the journal may hold before the snapshot is rewritten
+    static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    // The latest change saved to filePath, or null if the next save must rewrite the snapshot
+    private AddressBookChange lastSavedChange;
+    private int journalLength;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that rewrites the snapshot once the journal holds more than {@code compactionThreshold}
+     * changes.
+     */
+    JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns the path of the journal that follows the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot, then replays the changes in its journal, if any, onto it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (snapshot.isEmpty() || !Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        String journal = FileUtil.readFromFile(journalFilePath);
+        String[] lines = journal.split("\n");
+        if (!isJournalOf(lines[0], filePath)) {
+            logger.info("Ignoring " + journalFilePath + " as it does not follow the snapshot in " + filePath);
+            return snapshot;
+        }
+
+        Replay replay = new Replay(snapshot.get());
+        for (int i = 1; i < lines.length; i++) {
+            try {
+                replay.apply(JsonUtil.fromJsonString(lines[i], JsonAdaptedChange.class));
+            } catch (IOException | IllegalValueException | IndexOutOfBoundsException e) {
+                boolean isTornLastLine = i == lines.length - 1 && !journal.endsWith("\n");
+                if (!isTornLastLine) {
+                    logger.info("Illegal change found in " + journalFilePath + ": " + e.getMessage());
+                    throw new DataConversionException(e);
+                }
+                // The last change was only partly appended when the app stopped, so it was never saved
+                logger.warning("Ignoring the incomplete last change in " + journalFilePath);
+            }
+        }
+
+        try {
+            return Optional.of(replay.toModelType());
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's file path always writes a full snapshot there.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        AddressBookChange latestChange = addressBook.getLatestChange();
+        Optional<List<AddressBookChange>> changes = lastSavedChange == null
+                ? Optional.empty()
+                : lastSavedChange.getChangesUntil(latestChange);
+        if (changes.isPresent() && changes.get().isEmpty()) {
+            return;
+        }
+
+        try {
+            if (changes.isPresent() && canAppend(changes.get())) {
+                appendToJournal(changes.get());
+                journalLength += changes.get().size();
+            } else {
+                writeSnapshot(addressBook, filePath);
+                journalLength = 0;
+            }
+            lastSavedChange = latestChange;
+        } catch (IOException e) {
+            // The journal may hold part of the changes, so only a new snapshot can be trusted to follow it
+            lastSavedChange = null;
+            throw e;
+        }
+    }
+
+    private boolean canAppend(List<AddressBookChange> changes) {
+        return journalLength + changes.size() <= compactionThreshold
+                && changes.stream().noneMatch(change -> change.getKind() == Kind.RESET);
+    }
+
+    private void appendToJournal(List<AddressBookChange> changes) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedChange(change))).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel journal = FileChannel.open(getJournalFilePath(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            // A save is only reported once its records are on disk, so a crash cannot lose a saved change
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to a new snapshot at {@code filePath}, followed by an empty journal.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        JsonJournalHeader header = new JsonJournalHeader(checksumOf(filePath));
+        FileUtil.writeToFile(getJournalFilePath(filePath), JsonUtil.toCompactJsonString(header) + "\n");
+    }
+
+    private static boolean isJournalOf(String headerLine, Path snapshotFilePath) throws IOException {
+        try {
+            JsonJournalHeader header = JsonUtil.fromJsonString(headerLine, JsonJournalHeader.class);
+            return header.snapshotChecksum != null && header.snapshotChecksum == checksumOf(snapshotFilePath);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * The first line of a journal, identifying the snapshot the journal follows.
+     */
+    private static class JsonJournalHeader {
+        private final Long snapshotChecksum;
+
+        @JsonCreator
+        JsonJournalHeader(@JsonProperty("snapshotChecksum") Long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+
+    /**
+     * The lists of an address book as changes are replayed onto them.
+     */
+    private static class Replay {
+        private PersistentList<Customer> customers;
+        private PersistentList<Order> orders;
+        private PersistentList<Cheese> cheeses;
+
+        Replay(ReadOnlyAddressBook snapshot) {
+            customers = PersistentList.of(snapshot.getCustomerList());
+            orders = PersistentList.of(snapshot.getOrderList());
+            cheeses = PersistentList.of(snapshot.getCheeseList());
+        }
+
+        void apply(JsonAdaptedChange change) throws IllegalValueException {
+            switch (change.getModelSection()) {
+            case CUSTOMERS:
+                customers = apply(customers, change);
+                break;
+            case ORDERS:
+                orders = apply(orders, change);
+                break;
+            default:
+                cheeses = apply(cheeses, change);
+                break;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> PersistentList<T> apply(PersistentList<T> list, JsonAdaptedChange change)
+                throws IllegalValueException {
+            int index = change.getModelIndex();
+            switch (change.getModelKind()) {
+            case INSERT:
+                return list.plus(index, (T) change.toModelElement());
+            case REPLACE:
+                return list.with(index, (T) change.toModelElement());
+            default:
+                return list.minus(index);
+            }
+        }
+
+        /**
+         * Converts the replayed lists into the model's {@code AddressBook} object, checking it as a snapshot
+         * would be checked.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        AddressBook toModelType() throws IllegalValueException {
+            return JsonSerializableAddressBook.toAddressBook(customers, cheeses, orders);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.Kind;
+import seedu.address.model.AddressBookChange.Section;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ * Only the element of the section the change was made to is present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_INVALID_SECTION = "Change's section is invalid: %s";
+    public static final String MESSAGE_INVALID_KIND = "Change's kind is invalid: %s";
+
+    private final String section;
+    private final String kind;
+    private final Integer index;
+    private final JsonAdaptedCustomer customer;
+    private final JsonAdaptedOrder order;
+    private final JsonAdaptedCheese cheese;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("section") String section, @JsonProperty("kind") String kind,
+                             @JsonProperty("index") Integer index,
+                             @JsonProperty("customer") JsonAdaptedCustomer customer,
+                             @JsonProperty("order") JsonAdaptedOrder order,
+                             @JsonProperty("cheese") JsonAdaptedCheese cheese) {
+        this.section = section;
+        this.kind = kind;
+        this.index = index;
+        this.customer = customer;
+        this.order = order;
+        this.cheese = cheese;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     * The change must not be a {@code RESET}, which is saved by rewriting the whole address book instead.
+     */
+    public JsonAdaptedChange(AddressBookChange source) {
+        assert source.getKind() != Kind.RESET;
+        section = source.getSection().name();
+        kind = source.getKind().name();
+        index = source.getIndex();
+
+        Object element = source.getElement();
+        customer = element instanceof Customer ? new JsonAdaptedCustomer((Customer) element) : null;
+        order = element instanceof Order ? new JsonAdaptedOrder((Order) element) : null;
+        cheese = element instanceof Cheese ? new JsonAdaptedCheese((Cheese) element) : null;
+    }
+
+    /**
+     * Returns the section of the address book this change was made to.
+     *
+     * @throws IllegalValueException if the section is missing or invalid.
+     */
+    public Section getModelSection() throws IllegalValueException {
+        if (section == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "section"));
+        }
+        try {
+            return Section.valueOf(section);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SECTION, section));
+        }
+    }
+
+    /**
+     * Returns what was done to the section.
+     *
+     * @throws IllegalValueException if the kind is missing, invalid, or is a {@code RESET}.
+     */
+    public Kind getModelKind() throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+        try {
+            Kind modelKind = Kind.valueOf(kind);
+            if (modelKind == Kind.RESET) {
+                throw new IllegalArgumentException();
+            }
+            return modelKind;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_KIND, kind));
+        }
+    }
+
+    /**
+     * Returns the position in the section that the change was made at.
+     *
+     * @throws IllegalValueException if the index is missing.
+     */
+    public int getModelIndex() throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        return index;
+    }
+
+    /**
+     * Converts the element of this change into a model's {@code Customer}, {@code Order} or {@code Cheese},
+     * according to its section.
+     *
+     * @throws IllegalValueException if the element is missing or violates a data constraint.
+     */
+    public Object toModelElement() throws IllegalValueException {
+        switch (getModelSection()) {
+        case CUSTOMERS:
+            return requireElement(customer, "customer").toModelType();
+        case ORDERS:
+            return requireElement(order, "order").toModelType();
+        default:
+            return requireElement(cheese, "cheese").toModelType();
+        }
+    }
+
+    private static <T> T requireElement(T element, String fieldName) throws IllegalValueException {
+        if (element == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return element;
+    }
+}
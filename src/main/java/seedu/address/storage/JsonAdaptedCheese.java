@@ -61,6 +61,16 @@ class JsonAdaptedCheese {
      * @throws IllegalValueException if there were any data constraints violated in the adapted cheese.
      */
     public Cheese toModelType() throws IllegalValueException {
+        return toModelType(cheeseId, cheeseType, manufactureDate, maturityDate, expiryDate, isAssigned);
+    }
+
+    /**
+     * Converts the given cheese details, as stored, into the model's {@code Cheese} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the cheese details.
+     */
+    static Cheese toModelType(Integer cheeseId, String cheeseType, String manufactureDate, String maturityDate,
+            String expiryDate, boolean isAssigned) throws IllegalValueException {
         if (!CheeseId.isValidId(cheeseId)) {
             throw new IllegalValueException(CheeseId.MESSAGE_CONSTRAINTS);
         }
@@ -17,6 +17,7 @@ import seedu.address.model.customer.Email;
 import seedu.address.model.customer.Name;
 import seedu.address.model.customer.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
 
 /**
  * Jackson-friendly version of {@link Customer}.
@@ -70,9 +71,23 @@ class JsonAdaptedCustomer {
      * @throws IllegalValueException if there were any data constraints violated in the adapted customer.
      */
     public Customer toModelType() throws IllegalValueException {
-        final List<Tag> customerTags = new ArrayList<>();
+        List<String> tagNames = new ArrayList<>(tagged.size());
         for (JsonAdaptedTag tag : tagged) {
-            customerTags.add(tag.toModelType());
+            tagNames.add(tag.getTagName());
+        }
+        return toModelType(name, phone, email, address, customerId, tagNames);
+    }
+
+    /**
+     * Converts the given customer details, as stored, into the model's {@code Customer} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the customer details.
+     */
+    static Customer toModelType(String name, String phone, String email, String address, Integer customerId,
+            List<String> tagNames) throws IllegalValueException {
+        final List<Tag> customerTags = new ArrayList<>();
+        for (String tagName : tagNames) {
+            customerTags.add(JsonAdaptedTag.toModelType(tagName));
         }
 
         if (name == null) {
@@ -81,7 +96,7 @@ class JsonAdaptedCustomer {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = ValueInterner.intern(new Name(name));
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -97,7 +112,7 @@ class JsonAdaptedCustomer {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = ValueInterner.intern(new Email(email));
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -105,7 +120,7 @@ class JsonAdaptedCustomer {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = ValueInterner.intern(new Address(address));
 
         if (customerId == null) {
             throw new IllegalValueException(
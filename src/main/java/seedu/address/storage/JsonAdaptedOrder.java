@@ -1,11 +1,5 @@
 package seedu.address.storage;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -32,7 +26,7 @@ class JsonAdaptedOrder {
     private final String orderDate;
     private final String completedDate;
     private final Integer customerId;
-    private final List<Integer> cheeseIds = new ArrayList<>();
+    private final int[] cheeseIds;
 
     /**
      * Constructs a {@code JsonAdaptedOrder} with the given order details.
@@ -44,16 +38,14 @@ class JsonAdaptedOrder {
                             @JsonProperty("orderDate") String orderDate,
                             @JsonProperty("completedDate") String completedDate,
                             @JsonProperty("customerId") Integer customerId,
-                            @JsonProperty("cheeseIds") List<Integer> cheeseIds) {
+                            @JsonProperty("cheeseIds") int[] cheeseIds) {
         this.orderId = orderId;
         this.cheeseType = cheeseType;
         this.quantity = quantity;
         this.orderDate = orderDate;
         this.completedDate = completedDate;
         this.customerId = customerId;
-        if (cheeseIds != null) {
-            this.cheeseIds.addAll(cheeseIds);
-        }
+        this.cheeseIds = cheeseIds == null ? new int[0] : cheeseIds.clone();
     }
 
     /**
@@ -66,9 +58,7 @@ class JsonAdaptedOrder {
         orderDate = source.getOrderDate().toJsonString();
         completedDate = source.getCompletedDate().map(CompletedDate::toJsonString).orElse(null);
         customerId = source.getCustomerId().value;
-        cheeseIds.addAll(source.getCheeses().stream()
-                    .map(x -> x.value)
-                    .collect(Collectors.toList()));
+        cheeseIds = source.getCheeseIdValues();
     }
 
     /**
@@ -77,11 +67,16 @@ class JsonAdaptedOrder {
      * @throws IllegalValueException if there were any data constraints violated in the adapted order.
      */
     public Order toModelType() throws IllegalValueException {
-        final List<CheeseId> orderCheeses = new ArrayList<>();
-        for (Integer cheeseId : cheeseIds) {
-            orderCheeses.add(CheeseId.getNextId(cheeseId));
-        }
+        return toModelType(orderId, cheeseType, quantity, orderDate, completedDate, customerId, cheeseIds);
+    }
 
+    /**
+     * Converts the given order details, as stored, into the model's {@code Order} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the order details.
+     */
+    static Order toModelType(Integer orderId, String cheeseType, Integer quantity, String orderDate,
+            String completedDate, Integer customerId, int[] cheeseIds) throws IllegalValueException {
         if (!OrderId.isValidId(orderId)) {
             throw new IllegalValueException(OrderId.MESSAGE_CONSTRAINTS);
         }
@@ -112,22 +107,20 @@ class JsonAdaptedOrder {
         final OrderDate modelOrderDate = new OrderDate(orderDate);
 
         final CompletedDate modelCompletedDate;
-        final Set<CheeseId> modelCheeseId = new HashSet<>();
-
         if (completedDate == null) {
             modelCompletedDate = null;
         } else if (!CompletedDate.isValidDate(completedDate)) {
             throw new IllegalValueException(CompletedDate.MESSAGE_CONSTRAINTS);
-        } else if (cheeseIds == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    OrderDate.class.getSimpleName()));
         } else {
             modelCompletedDate = new CompletedDate(completedDate);
         }
 
-        modelCheeseId.addAll(cheeseIds.stream()
-            .map(CheeseId::getNextId)
-            .collect(Collectors.toList()));
+        // Cheese ids are kept as values; the cheeses they refer to are loaded, and checked, separately
+        for (int cheeseId : cheeseIds) {
+            if (!CheeseId.isValidId(cheeseId)) {
+                throw new IllegalValueException(CheeseId.MESSAGE_CONSTRAINTS);
+            }
+        }
 
         if (customerId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -139,6 +132,6 @@ class JsonAdaptedOrder {
         final CustomerId modelCustomerId = CustomerId.getNextId(customerId);
 
         return new Order(modelCheeseType, modelQuantity, modelOrderDate,
-                modelCompletedDate, modelCheeseId, modelId, modelCustomerId);
+                modelCompletedDate, cheeseIds, modelId, modelCustomerId);
     }
 }
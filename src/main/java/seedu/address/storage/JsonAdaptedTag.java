@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -39,10 +40,19 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
+        return toModelType(tagName);
+    }
+
+    /**
+     * Converts the given tag name, as stored, into the model's {@code Tag} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the tag name.
+     */
+    static Tag toModelType(String tagName) throws IllegalValueException {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return ValueInterner.intern(new Tag(tagName));
     }
 
 }
@@ -0,0 +1,355 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.ExpiryDate;
+import seedu.address.model.cheese.MaturityDate;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.CompletedDate;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Serializers and deserializers that write and read {@link Customer}, {@link Cheese} and {@link Order} directly,
+ * without first converting them to or from their Jackson-friendly versions.
+ * The Json is the same as that of {@link JsonAdaptedCustomer}, {@link JsonAdaptedCheese} and
+ * {@link JsonAdaptedOrder}, and is checked by the same rules, with the same messages.
+ *
+ * A deserializer reports a violated data constraint as a {@code JsonMappingException} caused by the
+ * {@code IllegalValueException}; see {@link #getIllegalValue(JsonMappingException)}.
+ */
+class JsonModelModule extends SimpleModule {
+
+    JsonModelModule() {
+        super("JsonModelModule");
+        addSerializer(Customer.class, new CustomerSerializer());
+        addDeserializer(Customer.class, new CustomerDeserializer());
+        addSerializer(Cheese.class, new CheeseSerializer());
+        addDeserializer(Cheese.class, new CheeseDeserializer());
+        addSerializer(Order.class, new OrderSerializer());
+        addDeserializer(Order.class, new OrderDeserializer());
+    }
+
+    /**
+     * Returns the violated data constraint that caused {@code e}, or null if it has another cause.
+     */
+    static IllegalValueException getIllegalValue(JsonMappingException e) {
+        return e.getCause() instanceof IllegalValueException ? (IllegalValueException) e.getCause() : null;
+    }
+
+    private static JsonMappingException toJsonMappingException(JsonParser parser, IllegalValueException e) {
+        return JsonMappingException.from(parser, e.getMessage(), e);
+    }
+
+    private static class CustomerSerializer extends StdSerializer<Customer> {
+        CustomerSerializer() {
+            super(Customer.class);
+        }
+
+        @Override
+        public void serialize(Customer customer, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("name", customer.getName().fullName);
+            generator.writeStringField("phone", customer.getPhone().value);
+            generator.writeStringField("email", customer.getEmail().value);
+            generator.writeStringField("address", customer.getAddress().value);
+            generator.writeNumberField("customerId", customer.getId().value);
+            generator.writeArrayFieldStart("tagged");
+            for (Tag tag : customer.getTags()) {
+                generator.writeString(tag.tagName);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static class CustomerDeserializer extends StdDeserializer<Customer> {
+        CustomerDeserializer() {
+            super(Customer.class);
+        }
+
+        @Override
+        public Customer deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            String name = null;
+            String phone = null;
+            String email = null;
+            String address = null;
+            Integer customerId = null;
+            List<String> tagNames = new ArrayList<>();
+
+            requireToken(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "name":
+                    name = readString(parser);
+                    break;
+                case "phone":
+                    phone = readString(parser);
+                    break;
+                case "email":
+                    email = readString(parser);
+                    break;
+                case "address":
+                    address = readString(parser);
+                    break;
+                case "customerId":
+                    customerId = readInteger(parser);
+                    break;
+                case "tagged":
+                    readStrings(parser, tagNames);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+
+            try {
+                return JsonAdaptedCustomer.toModelType(name, phone, email, address, customerId, tagNames);
+            } catch (IllegalValueException e) {
+                throw toJsonMappingException(parser, e);
+            }
+        }
+    }
+
+    private static class CheeseSerializer extends StdSerializer<Cheese> {
+        CheeseSerializer() {
+            super(Cheese.class);
+        }
+
+        @Override
+        public void serialize(Cheese cheese, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("cheeseId", cheese.getCheeseId().value);
+            generator.writeStringField("cheeseType", cheese.getCheeseType().value);
+            generator.writeStringField("manufactureDate", cheese.getManufactureDate().toJsonString());
+            generator.writeStringField("maturityDate",
+                    cheese.getMaturityDate().map(MaturityDate::toJsonString).orElse(null));
+            generator.writeStringField("expiryDate",
+                    cheese.getExpiryDate().map(ExpiryDate::toJsonString).orElse(null));
+            generator.writeBooleanField("isAssigned", cheese.isCheeseAssigned());
+            generator.writeEndObject();
+        }
+    }
+
+    private static class CheeseDeserializer extends StdDeserializer<Cheese> {
+        CheeseDeserializer() {
+            super(Cheese.class);
+        }
+
+        @Override
+        public Cheese deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Integer cheeseId = null;
+            String cheeseType = null;
+            String manufactureDate = null;
+            String maturityDate = null;
+            String expiryDate = null;
+            boolean isAssigned = false;
+
+            requireToken(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "cheeseId":
+                    cheeseId = readInteger(parser);
+                    break;
+                case "cheeseType":
+                    cheeseType = readString(parser);
+                    break;
+                case "manufactureDate":
+                    manufactureDate = readString(parser);
+                    break;
+                case "maturityDate":
+                    maturityDate = readString(parser);
+                    break;
+                case "expiryDate":
+                    expiryDate = readString(parser);
+                    break;
+                case "isAssigned":
+                    isAssigned = parser.getValueAsBoolean();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+
+            try {
+                return JsonAdaptedCheese.toModelType(cheeseId, cheeseType, manufactureDate, maturityDate, expiryDate,
+                        isAssigned);
+            } catch (IllegalValueException e) {
+                throw toJsonMappingException(parser, e);
+            }
+        }
+    }
+
+    private static class OrderSerializer extends StdSerializer<Order> {
+        OrderSerializer() {
+            super(Order.class);
+        }
+
+        @Override
+        public void serialize(Order order, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("orderId", order.getOrderId().value);
+            generator.writeStringField("cheeseType", order.getCheeseType().value);
+            generator.writeNumberField("quantity", order.getQuantity().value);
+            generator.writeStringField("orderDate", order.getOrderDate().toJsonString());
+            generator.writeStringField("completedDate",
+                    order.getCompletedDate().map(CompletedDate::toJsonString).orElse(null));
+            generator.writeNumberField("customerId", order.getCustomerId().value);
+            generator.writeArrayFieldStart("cheeseIds");
+            for (int cheeseId : order.getCheeseIdValues()) {
+                generator.writeNumber(cheeseId);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static class OrderDeserializer extends StdDeserializer<Order> {
+        OrderDeserializer() {
+            super(Order.class);
+        }
+
+        @Override
+        public Order deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Integer orderId = null;
+            String cheeseType = null;
+            Integer quantity = null;
+            String orderDate = null;
+            String completedDate = null;
+            Integer customerId = null;
+            int[] cheeseIds = new int[0];
+
+            requireToken(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "orderId":
+                    orderId = readInteger(parser);
+                    break;
+                case "cheeseType":
+                    cheeseType = readString(parser);
+                    break;
+                case "quantity":
+                    quantity = readInteger(parser);
+                    break;
+                case "orderDate":
+                    orderDate = readString(parser);
+                    break;
+                case "completedDate":
+                    completedDate = readString(parser);
+                    break;
+                case "customerId":
+                    customerId = readInteger(parser);
+                    break;
+                case "cheeseIds":
+                    cheeseIds = readInts(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+
+            try {
+                return JsonAdaptedOrder.toModelType(orderId, cheeseType, quantity, orderDate, completedDate,
+                        customerId, cheeseIds);
+            } catch (IllegalValueException e) {
+                throw toJsonMappingException(parser, e);
+            }
+        }
+    }
+
+    private static void requireToken(JsonParser parser, JsonToken expected) throws JsonMappingException {
+        if (parser.getCurrentToken() != expected) {
+            throw JsonMappingException.from(parser, "Expected " + expected + " but found "
+                    + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Reads the current value as a string, or null if it is null.
+     */
+    private static String readString(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!parser.getCurrentToken().isScalarValue()) {
+            throw JsonMappingException.from(parser, "Expected a string but found " + parser.getCurrentToken());
+        }
+        return parser.getValueAsString();
+    }
+
+    /**
+     * Reads the current value as an integer, or null if it is null.
+     */
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw JsonMappingException.from(parser, "Expected an integer but found " + parser.getCurrentToken());
+        }
+        return parser.getIntValue();
+    }
+
+    /**
+     * Reads the current array of strings into {@code values}. A null array is read as an empty one.
+     */
+    private static void readStrings(JsonParser parser, List<String> values) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        requireToken(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readString(parser));
+        }
+    }
+
+    /**
+     * Reads the current array of integers. A null array is read as an empty one.
+     */
+    private static int[] readInts(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return new int[0];
+        }
+        requireToken(parser, JsonToken.START_ARRAY);
+        int[] values = new int[8];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            Integer value = readInteger(parser);
+            if (value == null) {
+                throw JsonMappingException.from(parser, "Expected an integer but found null");
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+        return Arrays.copyOf(values, size);
+    }
+}
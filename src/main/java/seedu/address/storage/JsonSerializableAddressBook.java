@@ -1,19 +1,31 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange.Section;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.exceptions.DuplicateCheeseException;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.exceptions.DuplicateCustomerException;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.exceptions.DuplicateOrderException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -25,6 +37,14 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_CHEESE = "Cheese list contains duplicate cheese(s).";
     public static final String MESSAGE_DUPLICATE_ORDER = "Order list contains duplicate order(s).";
 
+    private static final String FIELD_CUSTOMERS = "customers";
+    private static final String FIELD_CHEESES = "cheeses";
+    private static final String FIELD_ORDERS = "orders";
+
+    static {
+        JsonUtil.registerModule(new JsonModelModule());
+    }
+
     private final List<JsonAdaptedCustomer> customers = new ArrayList<>();
     private final List<JsonAdaptedCheese> cheeses = new ArrayList<>();
     private final List<JsonAdaptedOrder> orders = new ArrayList<>();
@@ -58,29 +78,156 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Customer> customerList = new ArrayList<>(customers.size());
         for (JsonAdaptedCustomer jsonAdaptedCustomer : customers) {
-            Customer customer = jsonAdaptedCustomer.toModelType();
-            if (addressBook.hasCustomer(customer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CUSTOMER);
-            }
-            addressBook.addCustomer(customer);
+            customerList.add(jsonAdaptedCustomer.toModelType());
         }
 
+        List<Cheese> cheeseList = new ArrayList<>(cheeses.size());
         for (JsonAdaptedCheese jsonAdaptedCheese : cheeses) {
-            Cheese cheese = jsonAdaptedCheese.toModelType();
-            if (addressBook.hasCheese(cheese)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CHEESE);
-            }
-            addressBook.addCheese(cheese);
+            cheeseList.add(jsonAdaptedCheese.toModelType());
         }
 
+        List<Order> orderList = new ArrayList<>(orders.size());
         for (JsonAdaptedOrder jsonAdaptedOrder : orders) {
-            Order order = jsonAdaptedOrder.toModelType();
-            if (addressBook.hasOrder(order)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
+            orderList.add(jsonAdaptedOrder.toModelType());
+        }
+
+        return toAddressBook(customerList, cheeseList, orderList);
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, reading each customer, cheese and
+     * order directly into the model's type, so that the whole document is never held in memory.
+     *
+     * @throws IOException if the Json is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        List<Customer> customerList = new ArrayList<>();
+        List<Cheese> cheeseList = new ArrayList<>();
+        List<Order> orderList = new ArrayList<>();
+        readLists(parser, customerList, cheeseList, orderList);
+        return toAddressBook(customerList, cheeseList, orderList);
+    }
+
+    /**
+     * Reads the customers, cheeses and orders of an address book in the format of this class from {@code parser}
+     * into the given lists, without checking the address book they make up.
+     * A list missing from the Json is read as an empty one.
+     *
+     * @throws IOException if the Json is malformed.
+     * @throws IllegalValueException if a record violates its data constraints.
+     */
+    static void readLists(JsonParser parser, List<Customer> customerList, List<Cheese> cheeseList,
+            List<Order> orderList) throws IOException, IllegalValueException {
+        requireToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case FIELD_CUSTOMERS:
+                readRecords(parser, Customer.class, customerList);
+                break;
+            case FIELD_CHEESES:
+                readRecords(parser, Cheese.class, cheeseList);
+                break;
+            case FIELD_ORDERS:
+                readRecords(parser, Order.class, orderList);
+                break;
+            default:
+                // Unknown fields are ignored, as they are when the whole document is read at once
+                parser.skipChildren();
+                break;
+            }
+        }
+        requireToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, writing each customer, cheese and
+     * order directly from the model's type.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        write(source, EnumSet.allOf(Section.class), generator);
+    }
+
+    /**
+     * Writes only the lists of {@code source} in {@code sections} to {@code generator}, in the format of this class.
+     */
+    static void write(ReadOnlyAddressBook source, Set<Section> sections, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        if (sections.contains(Section.CUSTOMERS)) {
+            writeRecords(generator, FIELD_CUSTOMERS, source.getCustomerList());
+        }
+        if (sections.contains(Section.CHEESES)) {
+            writeRecords(generator, FIELD_CHEESES, source.getCheeseList());
+        }
+        if (sections.contains(Section.ORDERS)) {
+            writeRecords(generator, FIELD_ORDERS, source.getOrderList());
+        }
+        generator.writeEndObject();
+    }
+
+    private static <M> void readRecords(JsonParser parser, Class<M> recordClass, List<M> records)
+            throws IOException, IllegalValueException {
+        requireToken(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            requireToken(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+            try {
+                records.add(JsonUtil.readValue(parser, recordClass));
+            } catch (JsonMappingException e) {
+                IllegalValueException illegalValue = JsonModelModule.getIllegalValue(e);
+                if (illegalValue != null) {
+                    throw illegalValue;
+                }
+                throw e;
             }
-            addressBook.addOrder(order);
+        }
+    }
+
+    private static <M> void writeRecords(JsonGenerator generator, String fieldName, List<M> records)
+            throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (M record : records) {
+            JsonUtil.writeValue(generator, record);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void requireToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonMappingException {
+        if (actual != expected) {
+            throw JsonMappingException.from(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Converts the given lists into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook toAddressBook(List<Customer> customerList, List<Cheese> cheeseList, List<Order> orderList)
+            throws IllegalValueException {
+        // Each list is checked for duplicates and installed in bulk
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setCustomers(customerList);
+        } catch (DuplicateCustomerException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CUSTOMER);
+        }
+
+        try {
+            addressBook.setCheeses(cheeseList);
+        } catch (DuplicateCheeseException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CHEESE);
+        }
+
+        try {
+            addressBook.setOrders(orderList);
+        } catch (DuplicateOrderException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
         }
 
         addressBook.checkAddressBook();
@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import java.util.Set;
+
+import seedu.address.model.customer.Address;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.customer.Email;
+import seedu.address.model.customer.Name;
+import seedu.address.model.customer.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
+
+/**
+ * A {@code Customer} read from a fixed-layout snapshot, whose email and address are decoded only when they are
+ * first asked for, as most customers' are never shown or searched.
+ *
+ * The email and address strings are checked by {@link MappedAddressBookStorage} when the snapshot is read, so
+ * creating them on first access does not fail.
+ */
+class LazyCustomer extends Customer {
+    private final MappedAddressBookStorage.StringTable details;
+    private final int index;
+
+    // Decoded on first access; threads racing to decode one at worst each create an equal, immutable value
+    private Email email;
+    private Address address;
+
+    /**
+     * Constructs a customer whose email and address are the strings at {@code 2 * index} and {@code 2 * index + 1}
+     * of {@code details}.
+     */
+    LazyCustomer(Name name, Phone phone, Set<Tag> tags, CustomerId customerId,
+            MappedAddressBookStorage.StringTable details, int index) {
+        super(name, phone, tags, customerId);
+        this.details = details;
+        this.index = index;
+    }
+
+    @Override
+    public Email getEmail() {
+        Email decoded = email;
+        if (decoded == null) {
+            decoded = ValueInterner.intern(new Email(details.get(2 * index)));
+            email = decoded;
+        }
+        return decoded;
+    }
+
+    @Override
+    public Address getAddress() {
+        Address decoded = address;
+        if (decoded == null) {
+            decoded = ValueInterner.intern(new Address(details.get(2 * index + 1)));
+            address = decoded;
+        }
+        return decoded;
+    }
+}
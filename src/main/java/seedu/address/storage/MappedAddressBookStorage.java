@@ -0,0 +1,620 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.customer.Address;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
+import seedu.address.model.customer.Email;
+import seedu.address.model.customer.Name;
+import seedu.address.model.customer.Phone;
+import seedu.address.model.order.Order;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueInterner;
+
+/**
+ * A class to access AddressBook data stored as a fixed-layout binary snapshot file on the hard disk, which is decoded
+ * with absolute reads when loaded, so that loading a large address book decodes as little as it can.
+ *
+ * The file begins with the bytes {@code CHIF}, the version of its format and the number of entries in each of its
+ * sections, so that where each section and record starts can be computed without reading the ones before it.
+ * Every record has a fixed size, and refers to its strings, tags and cheese ids by their index in a separate
+ * section. The file ends with a CRC32 checksum of everything before it.
+ *
+ * Customers' emails and addresses are kept, still encoded, in a section of their own, which is copied out of the
+ * file in one piece. They are checked when the file is read, but their {@code Email} and {@code Address} are only
+ * created when they are first asked for.
+ *
+ * The file is read into memory in one piece rather than memory-mapped, as a mapping stays alive until it is garbage
+ * collected, and on some platforms a mapped file cannot be replaced, which would make the next save fail.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'C', 'H', 'I', 'F'};
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+    private static final int HEADER_LENGTH = MAGIC.length + 11 * Integer.BYTES;
+
+    // Sizes of the fixed-size records
+    private static final int CUSTOMER_LENGTH = 5 * Integer.BYTES;
+    private static final int CHEESE_LENGTH = 3 * Integer.BYTES + 3 * Long.BYTES;
+    private static final int ORDER_LENGTH = 7 * Integer.BYTES + 2 * Long.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} begins as a fixed-layout snapshot does.
+     */
+    public static boolean isMappedFile(Path filePath) throws IOException {
+        return BinaryAddressBookStorage.startsWith(filePath, MAGIC);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Mapped file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        if (Files.size(filePath) > Integer.MAX_VALUE) {
+            throw new DataConversionException(new IOException("Mapped file " + filePath + " is too large"));
+        }
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(filePath));
+
+        try {
+            return Optional.of(decode(content));
+        } catch (IOException e) {
+            logger.warning("Error reading from mapped file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | IllegalArgumentException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out -> encode(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format of a fixed-layout snapshot.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Customer> customers = addressBook.getCustomerList();
+        List<Cheese> cheeses = addressBook.getCheeseList();
+        List<Order> orders = addressBook.getOrderList();
+
+        StringSection strings = new StringSection();
+        List<Integer> cheeseTypes = new ArrayList<>();
+        Set<String> seenCheeseTypes = new HashSet<>();
+        List<Integer> tags = new ArrayList<>();
+        StringSection details = new StringSection();
+        for (Customer customer : customers) {
+            strings.indexOf(customer.getName().fullName);
+            strings.indexOf(customer.getPhone().value);
+            for (Tag tag : customer.getTags()) {
+                tags.add(strings.indexOf(tag.tagName));
+            }
+            details.add(customer.getEmail().value);
+            details.add(customer.getAddress().value);
+        }
+        for (Cheese cheese : cheeses) {
+            if (seenCheeseTypes.add(cheese.getCheeseType().value)) {
+                cheeseTypes.add(strings.indexOf(cheese.getCheeseType().value));
+            }
+        }
+        for (Order order : orders) {
+            if (seenCheeseTypes.add(order.getCheeseType().value)) {
+                cheeseTypes.add(strings.indexOf(order.getCheeseType().value));
+            }
+        }
+        Map<String, Integer> cheeseTypeIndices = new HashMap<>();
+        for (int cheeseTypeIndex : cheeseTypes) {
+            cheeseTypeIndices.put(strings.get(cheeseTypeIndex), cheeseTypeIndices.size());
+        }
+        List<int[]> orderCheeseIds = new ArrayList<>(orders.size());
+        int cheeseIdCount = 0;
+        for (Order order : orders) {
+            int[] cheeseIds = order.getCheeseIdValues();
+            orderCheeseIds.add(cheeseIds);
+            cheeseIdCount += cheeseIds.length;
+        }
+
+        BufferedOutputStream bufferedOut = new BufferedOutputStream(out, 64 * 1024);
+        CheckedOutputStream checkedOut = new CheckedOutputStream(bufferedOut, new CRC32());
+        DataOutputStream dataOut = new DataOutputStream(checkedOut);
+
+        dataOut.write(MAGIC);
+        dataOut.writeInt(FORMAT_VERSION);
+        dataOut.writeInt(strings.size());
+        dataOut.writeInt(cheeseTypes.size());
+        dataOut.writeInt(customers.size());
+        dataOut.writeInt(tags.size());
+        dataOut.writeInt(cheeses.size());
+        dataOut.writeInt(orders.size());
+        dataOut.writeInt(cheeseIdCount);
+        dataOut.writeInt(strings.byteLength());
+        dataOut.writeInt(details.byteLength());
+        dataOut.writeInt(0); // Reserved
+
+        strings.writeTo(dataOut);
+        for (int cheeseType : cheeseTypes) {
+            dataOut.writeInt(cheeseType);
+        }
+
+        int firstTag = 0;
+        for (Customer customer : customers) {
+            dataOut.writeInt(customer.getId().value);
+            dataOut.writeInt(strings.indexOf(customer.getName().fullName));
+            dataOut.writeInt(strings.indexOf(customer.getPhone().value));
+            dataOut.writeInt(firstTag);
+            dataOut.writeInt(customer.getTags().size());
+            firstTag += customer.getTags().size();
+        }
+        for (int tag : tags) {
+            dataOut.writeInt(tag);
+        }
+        details.writeTo(dataOut);
+
+        for (Cheese cheese : cheeses) {
+            int flags = (cheese.isCheeseAssigned() ? BinaryAddressBookStorage.IS_ASSIGNED : 0)
+                    | (cheese.getMaturityDate().isPresent() ? BinaryAddressBookStorage.HAS_MATURITY_DATE : 0)
+                    | (cheese.getExpiryDate().isPresent() ? BinaryAddressBookStorage.HAS_EXPIRY_DATE : 0);
+            dataOut.writeInt(cheese.getCheeseId().value);
+            dataOut.writeInt(cheeseTypeIndices.get(cheese.getCheeseType().value));
+            dataOut.writeInt(flags);
+            dataOut.writeLong(BinaryAddressBookStorage.toEpochMinute(cheese.getManufactureDate()));
+            dataOut.writeLong(cheese.getMaturityDate().map(BinaryAddressBookStorage::toEpochMinute).orElse(0L));
+            dataOut.writeLong(cheese.getExpiryDate().map(BinaryAddressBookStorage::toEpochMinute).orElse(0L));
+        }
+
+        int firstCheeseId = 0;
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            int flags = order.getCompletedDate().isPresent() ? BinaryAddressBookStorage.HAS_COMPLETED_DATE : 0;
+            dataOut.writeInt(order.getOrderId().value);
+            dataOut.writeInt(cheeseTypeIndices.get(order.getCheeseType().value));
+            dataOut.writeInt(order.getQuantity().value);
+            dataOut.writeInt(flags);
+            dataOut.writeLong(BinaryAddressBookStorage.toEpochMinute(order.getOrderDate()));
+            dataOut.writeLong(order.getCompletedDate().map(BinaryAddressBookStorage::toEpochMinute).orElse(0L));
+            dataOut.writeInt(order.getCustomerId().value);
+            dataOut.writeInt(firstCheeseId);
+            dataOut.writeInt(orderCheeseIds.get(i).length);
+            firstCheeseId += orderCheeseIds.get(i).length;
+        }
+        for (int[] cheeseIds : orderCheeseIds) {
+            for (int cheeseId : cheeseIds) {
+                dataOut.writeInt(cheeseId);
+            }
+        }
+
+        dataOut.flush();
+        new DataOutputStream(bufferedOut).writeInt((int) checkedOut.getChecksum().getValue());
+        bufferedOut.flush();
+    }
+
+    /**
+     * Reads the address book in a fixed-layout snapshot, decoding its records straight from {@code content}.
+     * {@code content} is not used once this returns.
+     *
+     * @throws IOException if {@code content} is not a fixed-layout snapshot, or is damaged.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook decode(ByteBuffer content) throws IOException, IllegalValueException {
+        int length = content.limit();
+        if (length < HEADER_LENGTH + CHECKSUM_LENGTH || !hasMagic(content)) {
+            throw new IOException("Not a fixed-layout address book");
+        }
+        int version = content.getInt(MAGIC.length);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported fixed-layout address book version " + version);
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(content.duplicate().position(0).limit(length - CHECKSUM_LENGTH));
+        if ((int) checksum.getValue() != content.getInt(length - CHECKSUM_LENGTH)) {
+            throw new IOException("Fixed-layout address book is damaged: its checksum does not match");
+        }
+        Layout layout = new Layout(content);
+        if (layout.end != length - CHECKSUM_LENGTH) {
+            throw new IOException("Fixed-layout address book does not have the length its header gives");
+        }
+
+        StringTable strings = StringTable.copyOf(content, layout.stringOffsets, layout.stringCount,
+                layout.stringBytes, layout.stringByteLength);
+        CheeseType[] cheeseTypes = new CheeseType[layout.cheeseTypeCount];
+        for (int i = 0; i < cheeseTypes.length; i++) {
+            String cheeseType = strings.get(readIndex(content, layout.cheeseTypes + i * Integer.BYTES,
+                    layout.stringCount));
+            if (!CheeseType.isValidType(cheeseType)) {
+                throw new IllegalValueException(CheeseType.MESSAGE_CONSTRAINTS);
+            }
+            cheeseTypes[i] = CheeseType.getCheeseType(cheeseType);
+        }
+
+        StringTable details = StringTable.copyOf(content, layout.detailOffsets, 2 * layout.customerCount,
+                layout.detailBytes, layout.detailByteLength);
+        List<Customer> customerList = readCustomers(content, layout, strings, details);
+        List<Cheese> cheeseList = readCheeses(content, layout, cheeseTypes);
+        List<Order> orderList = readOrders(content, layout, cheeseTypes);
+
+        return JsonSerializableAddressBook.toAddressBook(customerList, cheeseList, orderList);
+    }
+
+    private static List<Customer> readCustomers(ByteBuffer content, Layout layout, StringTable strings,
+            StringTable details) throws IOException, IllegalValueException {
+        // Names, phones and tags repeat across customers, so each is checked and created once
+        Name[] names = new Name[layout.stringCount];
+        Phone[] phones = new Phone[layout.stringCount];
+        Tag[] tags = new Tag[layout.stringCount];
+
+        List<Customer> customerList = new ArrayList<>(layout.customerCount);
+        for (int i = 0; i < layout.customerCount; i++) {
+            int record = layout.customers + i * CUSTOMER_LENGTH;
+            int customerId = content.getInt(record);
+            if (!CustomerId.isValidId(customerId)) {
+                throw new IllegalValueException(CustomerId.MESSAGE_CONSTRAINTS);
+            }
+
+            int nameIndex = readIndex(content, record + Integer.BYTES, layout.stringCount);
+            if (names[nameIndex] == null) {
+                String name = strings.get(nameIndex);
+                if (!Name.isValidName(name)) {
+                    throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+                }
+                names[nameIndex] = ValueInterner.intern(new Name(name));
+            }
+
+            // Only checked here; the Email and Address are created when they are first asked for
+            if (!Email.isValidEmail(details.get(2 * i))) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            if (!Address.isValidAddress(details.get(2 * i + 1))) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            }
+
+            int phoneIndex = readIndex(content, record + 2 * Integer.BYTES, layout.stringCount);
+            if (phones[phoneIndex] == null) {
+                String phone = strings.get(phoneIndex);
+                if (!Phone.isValidPhone(phone)) {
+                    throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+                }
+                phones[phoneIndex] = new Phone(phone);
+            }
+
+            int firstTag = content.getInt(record + 3 * Integer.BYTES);
+            int tagCount = content.getInt(record + 4 * Integer.BYTES);
+            if (firstTag < 0 || tagCount < 0 || (long) firstTag + tagCount > layout.tagCount) {
+                throw new IOException("Fixed-layout address book refers to missing tags");
+            }
+            Set<Tag> customerTags = new HashSet<>();
+            for (int j = firstTag; j < firstTag + tagCount; j++) {
+                int tagIndex = readIndex(content, layout.tags + j * Integer.BYTES, layout.stringCount);
+                if (tags[tagIndex] == null) {
+                    tags[tagIndex] = JsonAdaptedTag.toModelType(strings.get(tagIndex));
+                }
+                customerTags.add(tags[tagIndex]);
+            }
+
+            customerList.add(new LazyCustomer(names[nameIndex], phones[phoneIndex], customerTags,
+                    CustomerId.getNextId(customerId), details, i));
+        }
+        return customerList;
+    }
+
+    private static List<Cheese> readCheeses(ByteBuffer content, Layout layout, CheeseType[] cheeseTypes)
+            throws IOException, IllegalValueException {
+        List<Cheese> cheeseList = new ArrayList<>(layout.cheeseCount);
+        for (int i = 0; i < layout.cheeseCount; i++) {
+            int record = layout.cheeses + i * CHEESE_LENGTH;
+            int flags = content.getInt(record + 2 * Integer.BYTES);
+            int dates = record + 3 * Integer.BYTES;
+            cheeseList.add(BinaryAddressBookStorage.toModelCheese(
+                    content.getInt(record),
+                    cheeseTypes[readIndex(content, record + Integer.BYTES, cheeseTypes.length)],
+                    BinaryAddressBookStorage.toDateTime(content.getLong(dates)),
+                    readOptionalDate(content, dates + Long.BYTES, flags, BinaryAddressBookStorage.HAS_MATURITY_DATE),
+                    readOptionalDate(content, dates + 2 * Long.BYTES, flags, BinaryAddressBookStorage.HAS_EXPIRY_DATE),
+                    (flags & BinaryAddressBookStorage.IS_ASSIGNED) != 0));
+        }
+        return cheeseList;
+    }
+
+    private static List<Order> readOrders(ByteBuffer content, Layout layout, CheeseType[] cheeseTypes)
+            throws IOException, IllegalValueException {
+        List<Order> orderList = new ArrayList<>(layout.orderCount);
+        for (int i = 0; i < layout.orderCount; i++) {
+            int record = layout.orders + i * ORDER_LENGTH;
+            int flags = content.getInt(record + 3 * Integer.BYTES);
+            int dates = record + 4 * Integer.BYTES;
+            int references = dates + 2 * Long.BYTES;
+
+            int firstCheeseId = content.getInt(references + Integer.BYTES);
+            int cheeseIdCount = content.getInt(references + 2 * Integer.BYTES);
+            if (firstCheeseId < 0 || cheeseIdCount < 0 || (long) firstCheeseId + cheeseIdCount > layout.cheeseIdCount) {
+                throw new IOException("Fixed-layout address book refers to missing cheese ids");
+            }
+            int[] cheeseIds = new int[cheeseIdCount];
+            for (int j = 0; j < cheeseIdCount; j++) {
+                cheeseIds[j] = content.getInt(layout.cheeseIds + (firstCheeseId + j) * Integer.BYTES);
+            }
+
+            orderList.add(BinaryAddressBookStorage.toModelOrder(
+                    content.getInt(record),
+                    cheeseTypes[readIndex(content, record + Integer.BYTES, cheeseTypes.length)],
+                    content.getInt(record + 2 * Integer.BYTES),
+                    BinaryAddressBookStorage.toDateTime(content.getLong(dates)),
+                    readOptionalDate(content, dates + Long.BYTES, flags, BinaryAddressBookStorage.HAS_COMPLETED_DATE),
+                    content.getInt(references),
+                    cheeseIds));
+        }
+        return orderList;
+    }
+
+    private static boolean hasMagic(ByteBuffer content) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (content.get(i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the index at {@code position}, checking that it is less than {@code size}.
+     */
+    private static int readIndex(ByteBuffer content, int position, int size) throws IOException {
+        int index = content.getInt(position);
+        if (index < 0 || index >= size) {
+            throw new IOException("Fixed-layout address book refers to a missing entry " + index);
+        }
+        return index;
+    }
+
+    private static LocalDateTime readOptionalDate(ByteBuffer content, int position, int flags, int presentFlag)
+            throws IllegalValueException {
+        return (flags & presentFlag) != 0 ? BinaryAddressBookStorage.toDateTime(content.getLong(position)) : null;
+    }
+
+    /**
+     * Where each section of a fixed-layout snapshot starts, as computed from the counts in its header.
+     */
+    private static class Layout {
+        final int stringCount;
+        final int cheeseTypeCount;
+        final int customerCount;
+        final int tagCount;
+        final int cheeseCount;
+        final int orderCount;
+        final int cheeseIdCount;
+        final int stringByteLength;
+        final int detailByteLength;
+
+        final int stringOffsets;
+        final int stringBytes;
+        final int cheeseTypes;
+        final int customers;
+        final int tags;
+        final int detailOffsets;
+        final int detailBytes;
+        final int cheeses;
+        final int orders;
+        final int cheeseIds;
+        final long end;
+
+        Layout(ByteBuffer content) throws IOException {
+            int position = MAGIC.length + Integer.BYTES;
+            stringCount = readCount(content, position);
+            cheeseTypeCount = readCount(content, position += Integer.BYTES);
+            customerCount = readCount(content, position += Integer.BYTES);
+            tagCount = readCount(content, position += Integer.BYTES);
+            cheeseCount = readCount(content, position += Integer.BYTES);
+            orderCount = readCount(content, position += Integer.BYTES);
+            cheeseIdCount = readCount(content, position += Integer.BYTES);
+            stringByteLength = readCount(content, position += Integer.BYTES);
+            detailByteLength = readCount(content, position += Integer.BYTES);
+
+            // Computed as longs, so that counts too large for the file are caught by the length check
+            long next = HEADER_LENGTH;
+            stringOffsets = toPosition(next);
+            next += ((long) stringCount + 1) * Integer.BYTES;
+            stringBytes = toPosition(next);
+            next += stringByteLength;
+            cheeseTypes = toPosition(next);
+            next += (long) cheeseTypeCount * Integer.BYTES;
+            customers = toPosition(next);
+            next += (long) customerCount * CUSTOMER_LENGTH;
+            tags = toPosition(next);
+            next += (long) tagCount * Integer.BYTES;
+            detailOffsets = toPosition(next);
+            next += (2L * customerCount + 1) * Integer.BYTES;
+            detailBytes = toPosition(next);
+            next += detailByteLength;
+            cheeses = toPosition(next);
+            next += (long) cheeseCount * CHEESE_LENGTH;
+            orders = toPosition(next);
+            next += (long) orderCount * ORDER_LENGTH;
+            cheeseIds = toPosition(next);
+            next += (long) cheeseIdCount * Integer.BYTES;
+            end = next;
+        }
+
+        private static int readCount(ByteBuffer content, int position) throws IOException {
+            int count = content.getInt(position);
+            if (count < 0) {
+                throw new IOException("Fixed-layout address book has a negative count");
+            }
+            return count;
+        }
+
+        private static int toPosition(long position) {
+            // Positions past the end of the file are never read, as the file's length is checked first
+            return (int) Math.min(position, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * The strings of a section being written, each encoded once.
+     */
+    private static class StringSection {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<byte[]> encodedValues = new ArrayList<>();
+        private int byteLength;
+
+        /**
+         * Returns the index of {@code value}, adding it if it is not in the section yet.
+         */
+        int indexOf(String value) {
+            Integer index = indices.get(value);
+            if (index == null) {
+                index = values.size();
+                indices.put(value, index);
+                add(value);
+            }
+            return index;
+        }
+
+        /**
+         * Adds {@code value} to the end of the section, even if it is already in it.
+         */
+        void add(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            values.add(value);
+            encodedValues.add(encoded);
+            byteLength += encoded.length;
+        }
+
+        String get(int index) {
+            return values.get(index);
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        int byteLength() {
+            return byteLength;
+        }
+
+        /**
+         * Writes the offset of each string, and of the end of the last one, followed by the strings.
+         */
+        void writeTo(DataOutputStream out) throws IOException {
+            int offset = 0;
+            for (byte[] encoded : encodedValues) {
+                out.writeInt(offset);
+                offset += encoded.length;
+            }
+            out.writeInt(offset);
+            for (byte[] encoded : encodedValues) {
+                out.write(encoded);
+            }
+        }
+    }
+
+    /**
+     * The strings of a section that has been read, copied out of the file still encoded, and decoded one at a time
+     * when asked for.
+     */
+    static class StringTable {
+        private final byte[] bytes;
+        private final int[] offsets;
+
+        private StringTable(byte[] bytes, int[] offsets) {
+            this.bytes = bytes;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Copies the {@code count} strings whose offsets start at {@code offsetsPosition} of {@code content}, and
+         * whose {@code byteLength} bytes start at {@code bytesPosition}.
+         */
+        static StringTable copyOf(ByteBuffer content, int offsetsPosition, int count, int bytesPosition,
+                int byteLength) throws IOException {
+            int[] offsets = new int[count + 1];
+            for (int i = 0; i <= count; i++) {
+                offsets[i] = content.getInt(offsetsPosition + i * Integer.BYTES);
+                int start = i == 0 ? 0 : offsets[i - 1];
+                if (offsets[i] < start || offsets[i] > byteLength) {
+                    throw new IOException("Fixed-layout address book has a string out of range");
+                }
+            }
+            byte[] bytes = new byte[byteLength];
+            content.duplicate().position(bytesPosition).get(bytes);
+            return new StringTable(bytes, offsets);
+        }
+
+        String get(int index) {
+            return new String(bytes, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+        }
+    }
+}
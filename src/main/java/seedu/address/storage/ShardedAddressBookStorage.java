@@ -0,0 +1,468 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.Section;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+
+/**
+ * A class to access AddressBook data stored as one json file, or shard, for each of the customers, cheeses and
+ * orders, next to a manifest that lists the shards that make up the address book.
+ *
+ * A save rewrites only the shards of the lists changed since the previous save. Each rewritten shard is written to
+ * a new file, named after the manifest's generation, and the manifest is written last, so the manifest always
+ * lists shards that were saved together, even if the app stops in the middle of a save. Shards that are no longer
+ * listed are then deleted. The shards are read in parallel, and each is checked against the checksum and the
+ * number of records the manifest gives for it.
+ *
+ * The manifest is kept at the path of the data file. The shards are kept next to it, named
+ * {@code <data file name>.<list>.<generation>.json}, in the same format as a json data file holding only that list.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Manifest's %s field is missing!";
+    public static final String MESSAGE_INVALID_SHARD_FILE = "Manifest's shard file is invalid: %s";
+
+    private static final String FIELD_FORMAT_VERSION = "shardFormatVersion";
+    private static final String SHARD_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    // The manifest saved to, or read from, filePath, or null if the next save must rewrite every shard
+    private JsonManifest savedManifest;
+    // The latest change saved to filePath, or null if the changes since the manifest was saved are unknown
+    private AddressBookChange lastSavedChange;
+    // What was read from filePath, until the first save, whose changes are found by comparing against it
+    private ReadOnlyAddressBook readSnapshot;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is the manifest of a sharded address book.
+     */
+    public static boolean isShardedFile(Path filePath) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && FIELD_FORMAT_VERSION.equals(parser.getCurrentName());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes every shard next to the data file at {@code filePath}, for when the data file is no longer sharded.
+     */
+    public static void deleteShards(Path filePath) throws IOException {
+        deleteShardsExcept(filePath, Set.of());
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<JsonManifest> manifest = JsonUtil.readJsonFile(filePath, JsonManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook;
+        try {
+            manifest.get().check(filePath);
+            addressBook = readShards(filePath, manifest.get());
+        } catch (IOException e) {
+            logger.warning("Error reading from shards of " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | IllegalArgumentException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedManifest = manifest.get();
+            lastSavedChange = null;
+            readSnapshot = addressBook.snapshot();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's file path always writes every shard there.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        JsonManifest previous = isOwnFile ? savedManifest : null;
+        Set<Section> changedSections = previous == null
+                ? EnumSet.allOf(Section.class)
+                : getChangedSections(addressBook);
+
+        try {
+            JsonManifest manifest = changedSections.isEmpty()
+                    ? previous
+                    : writeShards(addressBook, changedSections, filePath, previous);
+            if (isOwnFile) {
+                savedManifest = manifest;
+                lastSavedChange = addressBook.getLatestChange();
+                readSnapshot = null;
+            }
+        } catch (IOException e) {
+            if (isOwnFile) {
+                // What is on the disk is no longer known, so the next save rewrites every shard
+                savedManifest = null;
+                lastSavedChange = null;
+                readSnapshot = null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the lists of {@code addressBook} changed since it was last saved or read.
+     */
+    private Set<Section> getChangedSections(ReadOnlyAddressBook addressBook) {
+        Set<Section> changedSections = EnumSet.noneOf(Section.class);
+        Optional<List<AddressBookChange>> changes = lastSavedChange == null
+                ? Optional.empty()
+                : lastSavedChange.getChangesUntil(addressBook.getLatestChange());
+        if (changes.isPresent()) {
+            changes.get().forEach(change -> changedSections.add(change.getSection()));
+        } else if (readSnapshot != null) {
+            for (Section section : Section.values()) {
+                if (!getRecords(readSnapshot, section).equals(getRecords(addressBook, section))) {
+                    changedSections.add(section);
+                }
+            }
+        } else {
+            changedSections.addAll(EnumSet.allOf(Section.class));
+        }
+        return changedSections;
+    }
+
+    /**
+     * Writes the lists of {@code addressBook} in {@code changedSections} to new shards, then a manifest listing
+     * them with the shards of {@code previous} for the other lists, and deletes the shards no longer listed.
+     * {@code previous} may be null only if every list is changed.
+     */
+    private static JsonManifest writeShards(ReadOnlyAddressBook addressBook, Set<Section> changedSections,
+            Path filePath, JsonManifest previous) throws IOException {
+        // Shards are never written over a file that a saved manifest may list
+        long generation = (previous != null ? previous.generation : readGeneration(filePath)) + 1;
+        FileUtil.createParentDirsOfFile(filePath);
+
+        JsonShard[] shards = new JsonShard[Section.values().length];
+        for (Section section : Section.values()) {
+            shards[section.ordinal()] = changedSections.contains(section)
+                    ? writeShard(addressBook, section, filePath, generation)
+                    : previous.getShard(section);
+        }
+        JsonManifest manifest = new JsonManifest(FORMAT_VERSION, generation, shards[Section.CUSTOMERS.ordinal()],
+                shards[Section.CHEESES.ordinal()], shards[Section.ORDERS.ordinal()]);
+        JsonUtil.saveJsonFile(manifest, filePath);
+
+        try {
+            deleteShardsExcept(filePath, Stream.of(shards).map(shard -> shard.file).collect(Collectors.toSet()));
+        } catch (IOException e) {
+            // The manifest no longer lists them, so they are deleted on a later save
+            logger.warning("Failed to delete unused shards of " + filePath + ": " + e);
+        }
+        return manifest;
+    }
+
+    private static JsonShard writeShard(ReadOnlyAddressBook addressBook, Section section, Path filePath,
+            long generation) throws IOException {
+        String fileName = filePath.getFileName() + "." + section.name().toLowerCase() + "." + generation
+                + SHARD_FILE_SUFFIX;
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFile(filePath.resolveSibling(fileName), out ->
+                JsonUtil.writeJson(new CheckedOutputStream(out, checksum), generator ->
+                        JsonSerializableAddressBook.write(addressBook, EnumSet.of(section), generator)));
+        return new JsonShard(fileName, checksum.getValue(), getRecords(addressBook, section).size());
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code filePath}, or 0 if there is no readable manifest there.
+     */
+    private static long readGeneration(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonManifest.class)
+                    .map(manifest -> manifest.generation)
+                    .orElse(0L);
+        } catch (DataConversionException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteShardsExcept(Path filePath, Set<String> shardFileNames) throws IOException {
+        Path folder = filePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        Pattern shardFileName = getShardFileNamePattern(filePath);
+        List<Path> unusedShards;
+        try (Stream<Path> files = Files.list(folder)) {
+            unusedShards = files.filter(file -> shardFileName.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> !shardFileNames.contains(file.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+        for (Path unusedShard : unusedShards) {
+            Files.deleteIfExists(unusedShard);
+        }
+    }
+
+    private static Pattern getShardFileNamePattern(Path filePath) {
+        return Pattern.compile(Pattern.quote(filePath.getFileName().toString())
+                + "\\.(customers|cheeses|orders)\\.\\d+" + Pattern.quote(SHARD_FILE_SUFFIX));
+    }
+
+    /**
+     * Reads the shards listed in {@code manifest}, each on its own thread.
+     */
+    private static AddressBook readShards(Path filePath, JsonManifest manifest)
+            throws IOException, IllegalValueException {
+        ExecutorService shardReaders = Executors.newFixedThreadPool(Section.values().length, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-shard-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<ShardContents> customers = shardReaders.submit(() ->
+                    readShard(filePath, Section.CUSTOMERS, manifest.customers));
+            Future<ShardContents> cheeses = shardReaders.submit(() ->
+                    readShard(filePath, Section.CHEESES, manifest.cheeses));
+            Future<ShardContents> orders = shardReaders.submit(() ->
+                    readShard(filePath, Section.ORDERS, manifest.orders));
+            return JsonSerializableAddressBook.toAddressBook(await(customers).customers, await(cheeses).cheeses,
+                    await(orders).orders);
+        } finally {
+            shardReaders.shutdownNow();
+        }
+    }
+
+    private static ShardContents readShard(Path filePath, Section section, JsonShard shard)
+            throws IOException, IllegalValueException {
+        Path shardPath = filePath.resolveSibling(shard.file);
+        ShardContents contents = new ShardContents();
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(shardPath), checksum);
+                JsonParser parser = JsonUtil.createJsonParser(in)) {
+            JsonSerializableAddressBook.readLists(parser, contents.customers, contents.cheeses, contents.orders);
+            // Whatever follows the Json is part of the checksum too
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        if (checksum.getValue() != shard.checksum) {
+            throw new IOException("Shard " + shardPath + " does not have the checksum its manifest gives");
+        }
+        if (contents.getRecords(section).size() != shard.count) {
+            throw new IOException("Shard " + shardPath + " does not have the number of records its manifest gives");
+        }
+        return contents;
+    }
+
+    private static <T> T await(Future<T> future) throws IOException, IllegalValueException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading shards", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static List<?> getRecords(ReadOnlyAddressBook addressBook, Section section) {
+        switch (section) {
+        case CUSTOMERS:
+            return addressBook.getCustomerList();
+        case ORDERS:
+            return addressBook.getOrderList();
+        default:
+            return addressBook.getCheeseList();
+        }
+    }
+
+    /**
+     * The records read from a shard.
+     */
+    private static class ShardContents {
+        private final List<Customer> customers = new ArrayList<>();
+        private final List<Cheese> cheeses = new ArrayList<>();
+        private final List<Order> orders = new ArrayList<>();
+
+        List<?> getRecords(Section section) {
+            switch (section) {
+            case CUSTOMERS:
+                return customers;
+            case ORDERS:
+                return orders;
+            default:
+                return cheeses;
+            }
+        }
+    }
+
+    /**
+     * The manifest of a sharded address book, listing the shard that holds each list.
+     */
+    @JsonPropertyOrder({FIELD_FORMAT_VERSION, "generation", "customers", "cheeses", "orders"})
+    private static class JsonManifest {
+        private final Integer shardFormatVersion;
+        private final Long generation;
+        private final JsonShard customers;
+        private final JsonShard cheeses;
+        private final JsonShard orders;
+
+        @JsonCreator
+        JsonManifest(@JsonProperty(FIELD_FORMAT_VERSION) Integer shardFormatVersion,
+                     @JsonProperty("generation") Long generation,
+                     @JsonProperty("customers") JsonShard customers,
+                     @JsonProperty("cheeses") JsonShard cheeses,
+                     @JsonProperty("orders") JsonShard orders) {
+            this.shardFormatVersion = shardFormatVersion;
+            this.generation = generation;
+            this.customers = customers;
+            this.cheeses = cheeses;
+            this.orders = orders;
+        }
+
+        JsonShard getShard(Section section) {
+            switch (section) {
+            case CUSTOMERS:
+                return customers;
+            case ORDERS:
+                return orders;
+            default:
+                return cheeses;
+            }
+        }
+
+        /**
+         * Checks that this is a complete manifest of a version this class reads, listing shards of the data file
+         * at {@code filePath}.
+         *
+         * @throws IllegalValueException if it is not.
+         */
+        void check(Path filePath) throws IllegalValueException {
+            if (shardFormatVersion == null || generation == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        shardFormatVersion == null ? FIELD_FORMAT_VERSION : "generation"));
+            }
+            if (shardFormatVersion != FORMAT_VERSION) {
+                throw new IllegalValueException("Unsupported sharded address book version " + shardFormatVersion);
+            }
+            Pattern shardFileName = getShardFileNamePattern(filePath);
+            for (Section section : Section.values()) {
+                JsonShard shard = getShard(section);
+                if (shard == null || shard.file == null || shard.checksum == null || shard.count == null) {
+                    throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                            section.name().toLowerCase()));
+                }
+                // Shards are only ever read from next to the manifest
+                if (!shardFileName.matcher(shard.file).matches()) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_FILE, shard.file));
+                }
+            }
+        }
+    }
+
+    /**
+     * An entry of the manifest, giving the file of a shard, and its checksum and number of records.
+     */
+    private static class JsonShard {
+        private final String file;
+        private final Long checksum;
+        private final Integer count;
+
+        @JsonCreator
+        JsonShard(@JsonProperty("file") String file, @JsonProperty("checksum") Long checksum,
+                  @JsonProperty("count") Integer count) {
+            this.file = file;
+            this.checksum = checksum;
+            this.count = count;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.Config.AddressBookFormat;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -29,4 +30,32 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook} on a background thread, without waiting for it to be written.
+     * If saves are requested faster than they can be written, only the most recent is written.
+     *
+     * @param addressBook cannot be null, and must not be modified afterwards.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns the failure of the most recent background save, if it failed, and forgets it.
+     */
+    Optional<IOException> takeAddressBookSaveFailure();
+
+    /**
+     * Waits until every background save requested so far has been written.
+     *
+     * @throws IOException if the most recent background save failed.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Rewrites the data file with {@code addressBook} in {@code format}, and saves it in that format from then on.
+     * Background saves requested so far are written first.
+     *
+     * @param addressBook cannot be null, and must not be modified afterwards.
+     */
+    void convertAddressBook(ReadOnlyAddressBook addressBook, AddressBookFormat format) throws IOException;
+
 }
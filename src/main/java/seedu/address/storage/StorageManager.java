@@ -1,12 +1,20 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.Config.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -17,9 +25,24 @@ import seedu.address.model.UserPrefs;
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private AddressBookStorage addressBookStorage;
+    // Replaced, under writeLock, when the address book is converted to another format
+    private volatile AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // Writes the address book saved in the background, one save at a time
+    private final ExecutorService addressBookWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Ensures that only one save writes to the data file at a time
+    private final Object writeLock = new Object();
+    // Guards the state of the background saves below
+    private final Object saveLock = new Object();
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isWriterBusy;
+    private IOException saveFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -29,6 +52,47 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} that stores the address book at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        switch (format) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case MAPPED:
+            return new MappedAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the format of the address book stored at {@code filePath}, or an empty {@code Optional} if there is
+     * no file there.
+     */
+    public static Optional<AddressBookFormat> detectAddressBookFormat(Path filePath) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return Optional.of(AddressBookFormat.BINARY);
+        }
+        if (MappedAddressBookStorage.isMappedFile(filePath)) {
+            return Optional.of(AddressBookFormat.MAPPED);
+        }
+        if (ShardedAddressBookStorage.isShardedFile(filePath)) {
+            return Optional.of(AddressBookFormat.SHARDED);
+        }
+        if (Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath))) {
+            return Optional.of(AddressBookFormat.JOURNAL);
+        }
+        return Optional.of(AddressBookFormat.JSON);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -73,7 +137,127 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        synchronized (writeLock) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        synchronized (saveLock) {
+            // A save that has not started yet is replaced, as addressBook includes its changes
+            pendingAddressBook = addressBook;
+            if (!isWriterBusy) {
+                isWriterBusy = true;
+                addressBookWriter.execute(this::writePendingAddressBooks);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending address book until no save is pending.
+     */
+    private void writePendingAddressBooks() {
+        boolean hasStopped = false;
+        try {
+            while (true) {
+                ReadOnlyAddressBook addressBook;
+                synchronized (saveLock) {
+                    addressBook = pendingAddressBook;
+                    pendingAddressBook = null;
+                    if (addressBook == null) {
+                        isWriterBusy = false;
+                        hasStopped = true;
+                        saveLock.notifyAll();
+                        return;
+                    }
+                }
+
+                IOException failure = null;
+                try {
+                    saveAddressBook(addressBook);
+                } catch (IOException e) {
+                    logger.warning("Failed to save data file: " + StringUtil.getDetails(e));
+                    failure = e;
+                } catch (RuntimeException e) {
+                    // A storage that fails unexpectedly is reported like any other failed save
+                    logger.warning("Failed to save data file: " + StringUtil.getDetails(e));
+                    failure = new IOException(e);
+                }
+                synchronized (saveLock) {
+                    saveFailure = failure;
+                }
+            }
+        } finally {
+            // Otherwise the writer would seem busy forever, and flushes would wait for it forever
+            if (!hasStopped) {
+                synchronized (saveLock) {
+                    isWriterBusy = false;
+                    saveLock.notifyAll();
+                }
+            }
+        }
+    }
+
+    @Override
+    public Optional<IOException> takeAddressBookSaveFailure() {
+        synchronized (saveLock) {
+            Optional<IOException> failure = Optional.ofNullable(saveFailure);
+            saveFailure = null;
+            return failure;
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        synchronized (saveLock) {
+            awaitWriter();
+            if (saveFailure != null) {
+                throw saveFailure;
+            }
+        }
+    }
+
+    @Override
+    public void convertAddressBook(ReadOnlyAddressBook addressBook, AddressBookFormat format) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(format);
+
+        synchronized (saveLock) {
+            awaitWriter();
+            // The address book written below includes the changes of any save that failed
+            saveFailure = null;
+        }
+
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        AddressBookStorage convertedStorage = createAddressBookStorage(format, filePath);
+        logger.info("Converting data file " + filePath + " to " + format);
+        synchronized (writeLock) {
+            convertedStorage.saveAddressBook(addressBook, filePath);
+            addressBookStorage = convertedStorage;
+            if (format != AddressBookFormat.JOURNAL) {
+                // A journal left next to the data file would make it be detected as a journal snapshot
+                Files.deleteIfExists(JournalAddressBookStorage.getJournalFilePath(filePath));
+            }
+            if (format != AddressBookFormat.SHARDED) {
+                ShardedAddressBookStorage.deleteShards(filePath);
+            }
+        }
+    }
+
+    /**
+     * Waits until the writer has written every pending save. The caller must hold {@code saveLock}.
+     */
+    private void awaitWriter() throws IOException {
+        while (isWriterBusy) {
+            try {
+                saveLock.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for data file to be saved", e);
+            }
+        }
     }
 
 }
@@ -125,7 +125,7 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         customerListPanel = new CustomerListPanel(logic.getFilteredCustomerList());
         cheeseListPanel = new CheeseListPanel(logic.getFilteredCheeseList());
-        orderListPanel = new OrderListPanel(logic.getFilteredOrderList(), logic.getCompleteCustomerList());
+        orderListPanel = new OrderListPanel(logic.getFilteredOrderList(), logic.getCustomerIdMap());
 
         // Set the information to show when starting the app
         setListPanel();
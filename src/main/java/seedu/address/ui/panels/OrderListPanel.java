@@ -2,6 +2,7 @@ package seedu.address.ui.panels;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -26,18 +27,18 @@ public class OrderListPanel extends UiPart<Region> {
     @FXML
     private ListView<Order> listView;
 
-    private final ObservableList<Customer> customerList;
+    private final Map<CustomerId, Customer> customerIdMap;
 
     /**
      * Creates a {@code OrderListPanel} with the given {@code orderList}.
-     * {@code customerList} is input into this class so that for each order, we can look for its
+     * {@code customerIdMap} is input into this class so that for each order, we can look up its
      * customer's details.
      */
-    public OrderListPanel(ObservableList<Order> orderList, ObservableList<Customer> customerList) {
+    public OrderListPanel(ObservableList<Order> orderList, Map<CustomerId, Customer> customerIdMap) {
         super(FXML);
         listView.setItems(orderList);
         listView.setCellFactory(listView -> new OrderListView());
-        this.customerList = customerList;
+        this.customerIdMap = customerIdMap;
     }
 
     /**
@@ -64,11 +65,6 @@ public class OrderListPanel extends UiPart<Region> {
      * The customer with {@code customerId} must exist.
      */
     private Customer getCustomerById(CustomerId customerId) {
-        for (Customer customer : customerList) {
-            if (customerId.equals(customer.getId())) {
-                return customer;
-            }
-        }
-        return null;
+        return customerIdMap.get(customerId);
     }
 }
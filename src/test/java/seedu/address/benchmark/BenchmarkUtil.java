@@ -0,0 +1,97 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A minimal timing harness shared by the benchmarks in this package.
+ * Each benchmark body is run a number of times to warm up the JIT before it is measured,
+ * and the median of the measured runs is reported.
+ */
+public class BenchmarkUtil {
+
+    public static final int DEFAULT_WARMUP_RUNS = 5;
+    public static final int DEFAULT_MEASURED_RUNS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(BenchmarkUtil.class);
+
+    // Written by consume(), so that the JIT cannot discard the results being benchmarked
+    private static volatile int sink;
+
+    /**
+     * Runs {@code body} and returns the median time taken by a measured run, in milliseconds.
+     */
+    public static double measureMillis(int warmupRuns, int measuredRuns, Runnable body) {
+        for (int i = 0; i < warmupRuns; i++) {
+            body.run();
+        }
+
+        long[] timings = new long[measuredRuns];
+        for (int i = 0; i < measuredRuns; i++) {
+            long start = System.nanoTime();
+            body.run();
+            timings[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(timings);
+        return timings[measuredRuns / 2] / 1_000_000.0;
+    }
+
+    /**
+     * Runs {@code body} with the default number of warmup and measured runs, and reports the median time.
+     */
+    public static double measure(String description, Runnable body) {
+        double millis = measureMillis(DEFAULT_WARMUP_RUNS, DEFAULT_MEASURED_RUNS, body);
+        report(description, String.format("%.3f ms", millis));
+        return millis;
+    }
+
+    /**
+     * Reports a single benchmark result.
+     */
+    public static void report(String description, String result) {
+        String line = String.format("%-60s %s", description, result);
+        logger.info(line);
+        System.out.println(line);
+    }
+
+    /**
+     * Marks {@code result} as used, so that the computation producing it is not optimised away.
+     */
+    public static void consume(Object result) {
+        sink += System.identityHashCode(result);
+    }
+
+    /**
+     * Runs {@code body} once and returns the bytes allocated by the current thread while it ran,
+     * or -1 if the JVM does not count allocations per thread.
+     */
+    public static long allocatedBytes(Runnable body) {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof ThreadMXBean)) {
+            body.run();
+            return -1;
+        }
+
+        ThreadMXBean allocationCounter = (ThreadMXBean) threadBean;
+        long threadId = Thread.currentThread().getId();
+        long before = allocationCounter.getThreadAllocatedBytes(threadId);
+        body.run();
+        return allocationCounter.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * Returns the heap in use after requesting garbage collection, in bytes.
+     */
+    public static long usedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
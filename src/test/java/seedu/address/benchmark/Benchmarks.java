@@ -0,0 +1,20 @@
+package seedu.address.benchmark;
+
+/**
+ * Runs every benchmark in this package, e.g. through {@code gradlew benchmark}.
+ * A single benchmark can be run with {@code gradlew benchmark -Pbenchmark=<class name>}.
+ */
+public class Benchmarks {
+
+    /**
+     * Runs the benchmarks one after another, passing each of them {@code args}.
+     */
+    public static void main(String[] args) {
+        CheeseAllocationBenchmark.main(args);
+        StartupBenchmark.main(args);
+        IdIndexBenchmark.main(args);
+        InterningBenchmark.main(args);
+        CheeseStoreBenchmark.main(args);
+        SerializationBenchmark.main(args);
+    }
+}
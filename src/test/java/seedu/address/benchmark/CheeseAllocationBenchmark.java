@@ -0,0 +1,71 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.UniqueCheeseList;
+import seedu.address.model.order.Quantity;
+import seedu.address.testutil.CheeseBuilder;
+
+/**
+ * Compares allocating cheeses for an order from the expiry-ordered pools of {@code UniqueCheeseList}
+ * against scanning the whole inventory and sorting the matching cheeses by expiry date.
+ */
+public class CheeseAllocationBenchmark {
+
+    private static final int[] INVENTORY_SIZES = {1_000, 10_000, 100_000};
+    private static final int CHEESE_TYPES = 10;
+    private static final Quantity ORDER_QUANTITY = new Quantity(20);
+
+    /**
+     * Times both ways of allocating cheeses at each inventory size, and prints the results.
+     */
+    public static void main(String[] args) {
+        for (int size : INVENTORY_SIZES) {
+            List<Cheese> cheeses = createInventory(size);
+            UniqueCheeseList uniqueCheeseList = new UniqueCheeseList();
+            uniqueCheeseList.setCheeses(cheeses);
+            CheeseType cheeseType = CheeseType.getCheeseType("Type" + (CHEESE_TYPES - 1));
+
+            BenchmarkUtil.measure("Allocate by scanning " + size + " cheeses", () ->
+                    allocateByScan(cheeses, cheeseType, ORDER_QUANTITY.getQuantity()));
+            BenchmarkUtil.measure("Allocate from pools of " + size + " cheeses", () ->
+                    uniqueCheeseList.getUnassignedCheeses(cheeseType, ORDER_QUANTITY));
+        }
+    }
+
+    /**
+     * Returns {@code size} cheeses spread evenly over the cheese types, with expiry dates in no particular order.
+     * Half of the cheeses are assigned to orders.
+     */
+    private static List<Cheese> createInventory(int size) {
+        List<Cheese> cheeses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int day = 1 + (i * 7919) % 28;
+            int month = 1 + (i * 31) % 12;
+            cheeses.add(new CheeseBuilder()
+                    .withCheeseType("Type" + (i % CHEESE_TYPES))
+                    .withCheeseId(i + 1)
+                    .withExpiryDate(String.format("2023-%d-%d 00:00", month, day))
+                    .withAssignStatus(i % 2 == 1)
+                    .build());
+        }
+        return cheeses;
+    }
+
+    private static Set<CheeseId> allocateByScan(List<Cheese> cheeses, CheeseType cheeseType, int quantity) {
+        return cheeses.stream()
+                .filter(cheese -> !cheese.isCheeseAssigned() && cheese.isSameType(cheeseType))
+                .sorted(Comparator.comparing(cheese -> cheese.getExpiryDate().get().value))
+                .limit(quantity)
+                .map(Cheese::getCheeseId)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.cheese.CheeseType;
+import seedu.address.model.cheese.ExpiryDate;
+import seedu.address.model.cheese.ManufactureDate;
+import seedu.address.model.cheese.MaturityDate;
+import seedu.address.model.cheese.UniqueCheeseList;
+
+/**
+ * Reports the heap retained by a million cheeses held as {@code Cheese} objects in a list, against the heap retained
+ * by a {@code UniqueCheeseList} of the same cheeses, which stores them as columns of primitive fields.
+ */
+public class CheeseStoreBenchmark {
+
+    private static final int CHEESE_COUNT = 1_000_000;
+    private static final String[] CHEESE_TYPES = {"Brie", "Camembert", "Feta", "Gouda", "Mozzarella"};
+
+    /**
+     * Fills each kind of store with the same cheeses, and prints the heap each retains.
+     */
+    public static void main(String[] args) {
+        reportHeap("List of " + CHEESE_COUNT + " Cheese objects", CheeseStoreBenchmark::createCheeses);
+        reportHeap("UniqueCheeseList of " + CHEESE_COUNT + " cheeses", () -> {
+            UniqueCheeseList cheeses = new UniqueCheeseList();
+            cheeses.setCheeses(createCheeses());
+            return cheeses;
+        });
+    }
+
+    /**
+     * Returns {@code CHEESE_COUNT} cheeses with distinct dates, a tenth of them assigned to orders.
+     */
+    private static List<Cheese> createCheeses() {
+        LocalDateTime start = LocalDateTime.of(2021, 1, 1, 0, 0);
+        List<Cheese> cheeses = new ArrayList<>(CHEESE_COUNT);
+        for (int i = 0; i < CHEESE_COUNT; i++) {
+            LocalDateTime manufactured = start.plusMinutes(i);
+            cheeses.add(new Cheese(CheeseType.getCheeseType(CHEESE_TYPES[i % CHEESE_TYPES.length]),
+                    new ManufactureDate(manufactured), new MaturityDate(manufactured.plusDays(30)),
+                    new ExpiryDate(manufactured.plusDays(365)), CheeseId.valueOf(i + 1), i % 10 == 0));
+        }
+        return cheeses;
+    }
+
+    /**
+     * Reports the heap retained by the object that {@code factory} builds.
+     */
+    private static void reportHeap(String description, Supplier<Object> factory) {
+        long before = BenchmarkUtil.usedHeapBytes();
+        Object retained = factory.get();
+        long after = BenchmarkUtil.usedHeapBytes();
+        BenchmarkUtil.consume(retained);
+        BenchmarkUtil.report(description, String.format("%.1f MB", (after - before) / (1024.0 * 1024.0)));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.benchmark;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.cheese.CheeseId;
+import seedu.address.model.util.IntObjectMap;
+import seedu.address.model.util.IntSet;
+
+/**
+ * Compares the primitive {@code IntObjectMap} and {@code IntSet} against {@code HashMap} and {@code HashSet}
+ * keyed by {@code CheeseId}, for the heap retained by an index of a million ids and the time taken to look them up.
+ */
+public class IdIndexBenchmark {
+
+    private static final int ID_COUNT = 1_000_000;
+
+    /**
+     * Builds each kind of index over the same ids, and prints the heap it retains and the time its lookups take.
+     */
+    public static void main(String[] args) {
+        CheeseId[] ids = new CheeseId[ID_COUNT];
+        for (int i = 0; i < ID_COUNT; i++) {
+            ids[i] = CheeseId.valueOf(i + 1);
+        }
+
+        reportHeap("HashMap<CheeseId, Object> of " + ID_COUNT + " ids", () -> {
+            Map<CheeseId, Object> map = new HashMap<>();
+            for (CheeseId id : ids) {
+                map.put(id, id);
+            }
+            return map;
+        });
+        reportHeap("IntObjectMap<Object> of " + ID_COUNT + " ids", () -> {
+            IntObjectMap<Object> map = new IntObjectMap<>();
+            for (CheeseId id : ids) {
+                map.put(id.value, id);
+            }
+            return map;
+        });
+        reportHeap("HashSet<CheeseId> of " + ID_COUNT + " ids", () -> {
+            Set<CheeseId> set = new HashSet<>();
+            for (CheeseId id : ids) {
+                set.add(id);
+            }
+            return set;
+        });
+        reportHeap("IntSet of " + ID_COUNT + " ids", () -> {
+            IntSet set = new IntSet();
+            for (CheeseId id : ids) {
+                set.add(id.value);
+            }
+            return set;
+        });
+
+        Map<CheeseId, Object> hashMap = new HashMap<>();
+        IntObjectMap<Object> intObjectMap = new IntObjectMap<>();
+        for (CheeseId id : ids) {
+            hashMap.put(id, id);
+            intObjectMap.put(id.value, id);
+        }
+        BenchmarkUtil.measure("HashMap lookup of " + ID_COUNT + " ids", () -> {
+            for (CheeseId id : ids) {
+                BenchmarkUtil.consume(hashMap.get(id));
+            }
+        });
+        BenchmarkUtil.measure("IntObjectMap lookup of " + ID_COUNT + " ids", () -> {
+            for (CheeseId id : ids) {
+                BenchmarkUtil.consume(intObjectMap.get(id.value));
+            }
+        });
+    }
+
+    /**
+     * Reports the heap retained by the object that {@code factory} builds, excluding the ids it is built from.
+     */
+    private static void reportHeap(String description, Supplier<Object> factory) {
+        long before = BenchmarkUtil.usedHeapBytes();
+        Object retained = factory.get();
+        long after = BenchmarkUtil.usedHeapBytes();
+        BenchmarkUtil.consume(retained);
+        BenchmarkUtil.report(description, String.format("%.1f MB", (after - before) / (1024.0 * 1024.0)));
+    }
+}
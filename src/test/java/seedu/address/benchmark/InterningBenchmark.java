@@ -0,0 +1,81 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.util.ValueInterner;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.CustomerBuilder;
+
+/**
+ * Reports the heap retained by an address book of 500k customers loaded from a json data file,
+ * with and without the customers' names, emails, addresses and tags interned as they are loaded.
+ * The customers are drawn from a small vocabulary of names, addresses and tags, as repeat customers of a shop are.
+ */
+public class InterningBenchmark {
+
+    private static final int CUSTOMER_COUNT = 500_000;
+    private static final int DISTINCT_NAMES = 2_000;
+    private static final int DISTINCT_EMAILS = 50_000;
+    private static final int DISTINCT_ADDRESSES = 10_000;
+    private static final String[] TAGS = {"wholesale", "retail", "restaurant", "vip", "overseas"};
+
+    /**
+     * Writes the data file once, loads it with interning off and on, and prints the heap each load retains.
+     */
+    public static void main(String[] args) {
+        boolean wasEnabled = ValueInterner.isEnabled();
+        Path dataFile = null;
+        try {
+            dataFile = Files.createTempFile("interning-benchmark", ".json");
+            new JsonAddressBookStorage(dataFile).saveAddressBook(createAddressBook(), dataFile);
+
+            ValueInterner.setEnabled(false);
+            reportLoadedHeap("Load " + CUSTOMER_COUNT + " customers without interning", dataFile);
+            ValueInterner.setEnabled(true);
+            reportLoadedHeap("Load " + CUSTOMER_COUNT + " customers with interning", dataFile);
+        } catch (IOException | DataConversionException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            ValueInterner.setEnabled(wasEnabled);
+            if (dataFile != null) {
+                dataFile.toFile().delete();
+            }
+        }
+    }
+
+    private static AddressBook createAddressBook() {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            customers.add(new CustomerBuilder()
+                    .withName("Customer " + (i % DISTINCT_NAMES))
+                    .withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("customer" + (i % DISTINCT_EMAILS) + "@example.com")
+                    .withAddress("Blk " + (i % DISTINCT_ADDRESSES) + ", Cheese Street")
+                    .withTags(TAGS[i % TAGS.length])
+                    .build());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCustomers(customers);
+        return addressBook;
+    }
+
+    /**
+     * Reports the heap retained by the address book loaded from {@code dataFile}.
+     */
+    private static void reportLoadedHeap(String description, Path dataFile) throws DataConversionException {
+        long before = BenchmarkUtil.usedHeapBytes();
+        ReadOnlyAddressBook loaded = new JsonAddressBookStorage(dataFile).readAddressBook().get();
+        long after = BenchmarkUtil.usedHeapBytes();
+        BenchmarkUtil.report(description, String.format("%.1f MB", (after - before) / 1_000_000.0));
+        BenchmarkUtil.consume(loaded);
+    }
+}
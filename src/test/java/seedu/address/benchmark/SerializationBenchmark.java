@@ -0,0 +1,94 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AdapterJsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+
+/**
+ * Compares saving and loading an address book of 10k and 100k records through the {@code JsonAdapted*} classes,
+ * which copy every record into a Jackson-friendly object, against the serializers that write and read the model's
+ * records directly, and against the binary and the fixed-layout snapshot formats. Both Json paths write the same
+ * Json to a file; the throughput and the bytes allocated by one save or load, and the size of each file, are
+ * reported.
+ */
+public class SerializationBenchmark {
+
+    private static final int[] RECORD_COUNTS = {10_000, 100_000};
+
+    /**
+     * Saves and loads an address book of each size in every format, and prints the results.
+     */
+    public static void main(String[] args) {
+        try {
+            Path folder = Files.createTempDirectory("serializationBenchmark");
+            for (int recordCount : RECORD_COUNTS) {
+                benchmark(recordCount, folder.resolve("addressbook" + recordCount + ".json"),
+                        folder.resolve("addressbook" + recordCount + ".bin"),
+                        folder.resolve("addressbook" + recordCount + ".map"));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void benchmark(int recordCount, Path file, Path binaryFile, Path mappedFile) throws IOException {
+        AddressBook addressBook = StartupBenchmark.createAddressBook(recordCount);
+        JsonAddressBookStorage adapterStorage = new AdapterJsonAddressBookStorage(file);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFile);
+        MappedAddressBookStorage mappedStorage = new MappedAddressBookStorage(mappedFile);
+
+        Runnable saveThroughAdapters = () -> run(() -> adapterStorage.saveAddressBook(addressBook));
+        Runnable saveDirectly = () -> run(() -> storage.saveAddressBook(addressBook));
+        Runnable loadThroughAdapters = () -> run(() -> BenchmarkUtil.consume(adapterStorage.readAddressBook()));
+        Runnable loadDirectly = () -> run(() -> BenchmarkUtil.consume(storage.readAddressBook()));
+        Runnable saveBinary = () -> run(() -> binaryStorage.saveAddressBook(addressBook));
+        Runnable loadBinary = () -> run(() -> BenchmarkUtil.consume(binaryStorage.readAddressBook()));
+        Runnable saveMapped = () -> run(() -> mappedStorage.saveAddressBook(addressBook));
+        Runnable loadMapped = () -> run(() -> BenchmarkUtil.consume(mappedStorage.readAddressBook()));
+
+        saveDirectly.run();
+        saveBinary.run();
+        saveMapped.run();
+        report("Save " + recordCount + " records through adapters", recordCount, saveThroughAdapters);
+        report("Save " + recordCount + " records directly", recordCount, saveDirectly);
+        report("Save " + recordCount + " records as binary", recordCount, saveBinary);
+        report("Save " + recordCount + " records memory-mapped", recordCount, saveMapped);
+        report("Load " + recordCount + " records through adapters", recordCount, loadThroughAdapters);
+        report("Load " + recordCount + " records directly", recordCount, loadDirectly);
+        report("Load " + recordCount + " records as binary", recordCount, loadBinary);
+        report("Load " + recordCount + " records memory-mapped", recordCount, loadMapped);
+        BenchmarkUtil.report("Json file bytes", String.valueOf(Files.size(file)));
+        BenchmarkUtil.report("Binary file bytes", String.valueOf(Files.size(binaryFile)));
+        BenchmarkUtil.report("Memory-mapped file bytes", String.valueOf(Files.size(mappedFile)));
+    }
+
+    private static void report(String description, int recordCount, Runnable body) {
+        double millis = BenchmarkUtil.measure(description, body);
+        long allocated = BenchmarkUtil.allocatedBytes(body);
+        BenchmarkUtil.report("  records per second", String.format("%.0f", recordCount / millis * 1000));
+        BenchmarkUtil.report("  bytes allocated per record", allocated < 0
+                ? "unavailable" : String.valueOf(allocated / recordCount));
+    }
+
+    private static void run(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException | DataConversionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException, DataConversionException;
+    }
+}
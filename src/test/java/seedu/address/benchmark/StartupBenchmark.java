@@ -0,0 +1,84 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.CheeseBuilder;
+import seedu.address.testutil.CustomerBuilder;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Measures constructing a {@code ModelManager} from an address book of 10k, 100k and 1M records,
+ * which copies every customer, order and cheese through the uniqueness-checked list setters.
+ * The pairwise uniqueness check the lists used to do is measured alongside, at the sizes where it finishes.
+ */
+public class StartupBenchmark {
+
+    private static final int[] RECORD_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int LARGEST_PAIRWISE_COUNT = 10_000;
+
+    /**
+     * Times building a model at each record count, and the pairwise check where it finishes, and prints the results.
+     */
+    public static void main(String[] args) {
+        for (int recordCount : RECORD_COUNTS) {
+            AddressBook addressBook = createAddressBook(recordCount);
+            UserPrefs userPrefs = new UserPrefs();
+
+            BenchmarkUtil.measure("Start up with " + recordCount + " records", () ->
+                    new ModelManager(addressBook, userPrefs));
+
+            if (recordCount <= LARGEST_PAIRWISE_COUNT) {
+                List<Cheese> cheeses = new ArrayList<>(addressBook.getCheeseList());
+                BenchmarkUtil.measure("Pairwise uniqueness check of " + cheeses.size() + " cheeses", () ->
+                        cheesesArePairwiseUnique(cheeses));
+            } else {
+                BenchmarkUtil.report("Pairwise uniqueness check of " + recordCount + " records", "skipped");
+            }
+        }
+    }
+
+    /**
+     * Returns an address book of {@code recordCount} records: a tenth customers, a fifth orders and the rest cheeses.
+     */
+    static AddressBook createAddressBook(int recordCount) {
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < recordCount / 10; i++) {
+            customers.add(new CustomerBuilder().withPhone(String.valueOf(10_000_000 + i)).build());
+        }
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < recordCount / 5; i++) {
+            orders.add(new OrderBuilder().withOrderId(i + 1)
+                    .withCustomerId(customers.get(i % customers.size()).getId()).build());
+        }
+
+        List<Cheese> cheeses = new ArrayList<>();
+        for (int i = 0; i < recordCount - customers.size() - orders.size(); i++) {
+            cheeses.add(new CheeseBuilder().withCheeseId(i + 1).build());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setCustomers(customers);
+        addressBook.setOrders(orders);
+        addressBook.setCheeses(cheeses);
+        return addressBook;
+    }
+
+    private static boolean cheesesArePairwiseUnique(List<Cheese> cheeses) {
+        for (int i = 0; i < cheeses.size() - 1; i++) {
+            for (int j = i + 1; j < cheeses.size(); j++) {
+                if (cheeses.get(i).isSameCheese(cheeses.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_PHONE;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,6 +13,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCustomers.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCustomerCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCustomersCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -70,7 +74,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_failureReportedWithNextResult() throws Exception {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
@@ -79,14 +83,52 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
 
-        // Execute add command
+        // Execute add command, whose save fails in the background
         String addCommand = AddCustomerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + ADDRESS_DESC_AMY;
         Customer expectedCustomer = new CustomerBuilder(AMY).withId(CustomerIdStub.getNextId()).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addCustomer(expectedCustomer);
+        logic.execute(addCommand);
+        assertThrows(IOException.class, storage::flushAddressBook);
+
+        // The failure is reported with the result of the next command
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(ListCustomersCommand.COMMAND_WORD,
+                ListCustomersCommand.MESSAGE_SUCCESS + "\n" + expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_exitAfterFailedSave_exits() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json")));
+        logic = new LogicManager(model, storage);
+        logic.execute(ListCustomersCommand.COMMAND_WORD);
+        assertThrows(IOException.class, storage::flushAddressBook);
+
+        CommandResult result = logic.execute(ExitCommand.COMMAND_WORD);
+        assertTrue(result.isExit());
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + "\n" + LogicManager.FILE_OPS_ERROR_MESSAGE
+                + DUMMY_IO_EXCEPTION, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_addressBookUnchanged_notSaved() throws Exception {
+        Path filePath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        // The first command saves the address book, whether or not it changed it
+        logic.execute(ListCustomersCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertTrue(Files.exists(filePath));
+
+        Files.delete(filePath);
+        logic.execute(ListCustomersCommand.COMMAND_WORD);
+        storage.flushAddressBook();
+        assertFalse(Files.exists(filePath));
     }
 
     @Test
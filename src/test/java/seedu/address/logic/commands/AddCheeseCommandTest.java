@@ -18,6 +18,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.cheese.Cheese;
+import seedu.address.model.util.predicate.FieldPredicate;
 import seedu.address.testutil.CheeseBuilder;
 
 public class AddCheeseCommandTest {
@@ -85,6 +86,16 @@ public class AddCheeseCommandTest {
             cheesesAdded.add(cheese);
         }
 
+        @Override
+        public void transaction(Runnable modifications) {
+            modifications.run();
+        }
+
+        @Override
+        public void updateFilteredCheeseList(FieldPredicate<Cheese> predicate) {
+            requireNonNull(predicate);
+        }
+
         @Override
         public GuiSettings getGuiSettings() {
             return userPrefs.getGuiSettings();
@@ -1,7 +1,9 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHEESE_TYPE;
 import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
 
 import java.util.HashSet;
@@ -10,6 +12,7 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.FindCheeseCommandParser;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.OrderIdStub;
@@ -84,6 +87,16 @@ public class AddCommandIntegrationTest {
                 model, successMessage, expectedModel);
     }
 
+    @Test
+    public void execute_newCheesesAfterFind_eachListedOnce() throws Exception {
+        new FindCheeseCommandParser().parse(" " + PREFIX_CHEESE_TYPE + "Brie").execute(model);
+        Cheese validCheese1 = new CheeseBuilder().build();
+        Cheese validCheese2 = new CheeseBuilder().build();
+
+        new AddCheeseCommand(new Cheese[] { validCheese1, validCheese2 }).execute(model);
+        assertEquals(model.getAddressBook().getCheeseList(), model.getFilteredCheeseList());
+    }
+
     @Test
     public void execute_newOrderWithCustomerPresent_success() {
         Phone customerPhoneInList = new Phone(model.getAddressBook().getCustomerList().get(0).getPhone().value);
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.Config.AddressBookFormat;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -33,6 +35,11 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different addressBookFormat value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", AddressBookFormat.BINARY)));
+        assertFalse(new CommandResult("feedback", AddressBookFormat.JSON)
+                .equals(new CommandResult("feedback", AddressBookFormat.BINARY)));
     }
 
     @Test
@@ -51,4 +58,12 @@ public class CommandResultTest {
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
     }
+
+    @Test
+    public void withFeedbackAppended() {
+        assertEquals(new CommandResult("feedback\nnote", false, true),
+                new CommandResult("feedback", false, true).withFeedbackAppended("note"));
+        assertEquals(new CommandResult("feedback\nnote", AddressBookFormat.BINARY),
+                new CommandResult("feedback", AddressBookFormat.BINARY).withFeedbackAppended("note"));
+    }
 }
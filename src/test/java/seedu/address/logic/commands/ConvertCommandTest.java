@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Config.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_binary_requestsConversion() {
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(ConvertCommand.MESSAGE_SUCCESS, "binary"), AddressBookFormat.BINARY);
+        assertCommandSuccess(new ConvertCommand(AddressBookFormat.BINARY), model, expectedCommandResult,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertToBinary = new ConvertCommand(AddressBookFormat.BINARY);
+
+        // same object -> returns true
+        assertTrue(convertToBinary.equals(convertToBinary));
+
+        // same values -> returns true
+        assertTrue(convertToBinary.equals(new ConvertCommand(AddressBookFormat.BINARY)));
+
+        // different types -> returns false
+        assertFalse(convertToBinary.equals(1));
+
+        // null -> returns false
+        assertFalse(convertToBinary.equals(null));
+
+        // different format -> returns false
+        assertFalse(convertToBinary.equals(new ConvertCommand(AddressBookFormat.JSON)));
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.predicates.OrderCheeseTypePredicate;
 import seedu.address.model.order.predicates.OrderCompletionStatusPredicate;
@@ -34,14 +36,14 @@ public class FindOrderCommandTest {
 
     private Model model;
     private Model expectedModel;
-    private List<Customer> customerList;
+    private Map<CustomerId, Customer> customerIdMap;
 
     @BeforeEach
     public void setUp() {
         model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
         expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.setPanelToOrderList();
-        customerList = model.getCompleteCustomerList();
+        customerIdMap = model.getCustomerIdMap();
     }
 
     @Test
@@ -70,7 +72,7 @@ public class FindOrderCommandTest {
     @Test
     public void execute_listIsFiltered_byCustomerNameOnly() {
         List<String> nameKeywords = splitToKeywordsList(VALID_NAME_AMY);
-        OrderNamePredicate predicate = new OrderNamePredicate(nameKeywords, customerList);
+        OrderNamePredicate predicate = new OrderNamePredicate(nameKeywords, customerIdMap);
         expectedModel.updateFilteredOrderList(predicate);
         assertCommandSuccess(
                 new FindOrderCommand(predicate),
@@ -83,7 +85,7 @@ public class FindOrderCommandTest {
     @Test
     public void execute_listIsFiltered_byCustomerPhoneOnly() {
         List<String> phoneKeywords = splitToKeywordsList(VALID_PHONE_AMY);
-        OrderPhonePredicate predicate = new OrderPhonePredicate(phoneKeywords, customerList);
+        OrderPhonePredicate predicate = new OrderPhonePredicate(phoneKeywords, customerIdMap);
         expectedModel.updateFilteredOrderList(predicate);
         assertCommandSuccess(
                 new FindOrderCommand(predicate),
@@ -110,8 +112,8 @@ public class FindOrderCommandTest {
         FieldPredicate<Order> predicate = new CompositeFieldPredicateBuilder<Order>()
                 .compose(new OrderCheeseTypePredicate(splitToKeywordsList(VALID_CHEESE_TYPE_BRIE)))
                 .compose(new OrderCompletionStatusPredicate(VALID_ORDER_COMPLETE_STATUS))
-                .compose(new OrderNamePredicate(splitToKeywordsList(VALID_NAME_AMY), customerList))
-                .compose(new OrderPhonePredicate(splitToKeywordsList(VALID_PHONE_AMY), customerList))
+                .compose(new OrderNamePredicate(splitToKeywordsList(VALID_NAME_AMY), customerIdMap))
+                .compose(new OrderPhonePredicate(splitToKeywordsList(VALID_PHONE_AMY), customerIdMap))
                 .build();
 
         expectedModel.updateFilteredOrderList(predicate);
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
@@ -12,6 +13,7 @@ import seedu.address.model.cheese.Cheese;
 import seedu.address.model.cheese.CheeseId;
 import seedu.address.model.cheese.CheeseType;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.customer.Phone;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.OrderId;
@@ -67,6 +69,51 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void batch(Runnable modifications) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void transaction(Runnable modifications) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasCustomer(Customer customer) {
         throw new AssertionError("This method should not be called.");
@@ -83,7 +130,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<Customer> getCompleteCustomerList() {
+    public Map<CustomerId, Customer> getCustomerIdMap() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -192,6 +239,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public int getUnassignedCheeseCount(CheeseType cheeseType) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Set<CheeseId> getUnassignedCheeses(CheeseType cheesetype, Quantity quantity) {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.testutil.CheeseBuilder;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Cheese newCheese = new CheeseBuilder().build();
+
+    @BeforeEach
+    public void setUp() {
+        model.deleteCustomer(BENSON);
+        model.commitAddressBook();
+        model.addCheese(newCheese);
+        model.commitAddressBook();
+
+        // set up of model's undo/redo history
+        model.undoAddressBook();
+        model.undoAddressBook();
+    }
+
+    @Test
+    public void execute() {
+        // multiple redoable states in model
+        expectedModel.deleteCustomer(BENSON);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single redoable state in model
+        expectedModel.addCheese(newCheese);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no redoable state in model
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newChangeCommitted_redoHistoryCleared() {
+        model.deleteCustomer(BENSON);
+        model.commitAddressBook();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
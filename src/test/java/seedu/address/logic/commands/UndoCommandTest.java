@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.testutil.CheeseBuilder;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Cheese newCheese = new CheeseBuilder().build();
+
+    @BeforeEach
+    public void setUp() {
+        // Deleting a customer also deletes their orders and the cheeses assigned to them
+        model.deleteCustomer(BENSON);
+        model.commitAddressBook();
+        model.addCheese(newCheese);
+        model.commitAddressBook();
+    }
+
+    @Test
+    public void execute() {
+        // multiple undoable states in model
+        expectedModel.deleteCustomer(BENSON);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single undoable state in model, including a cascading delete
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS,
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+
+        // no undoable states in model
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_unchangedAddressBook_nothingCommitted() {
+        model.commitAddressBook();
+        expectedModel.deleteCustomer(BENSON);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Config.AddressBookFormat;
+import seedu.address.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+    private ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertCommand() {
+        assertParseSuccess(parser, "binary", new ConvertCommand(AddressBookFormat.BINARY));
+        assertParseSuccess(parser, " JSON ", new ConvertCommand(AddressBookFormat.JSON));
+        assertParseSuccess(parser, "Journal", new ConvertCommand(AddressBookFormat.JOURNAL));
+        assertParseSuccess(parser, "mapped", new ConvertCommand(AddressBookFormat.MAPPED));
+        assertParseSuccess(parser, "sharded", new ConvertCommand(AddressBookFormat.SHARDED));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "xml", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ConvertCommand.MESSAGE_USAGE));
+    }
+}
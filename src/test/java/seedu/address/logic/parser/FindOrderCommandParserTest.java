@@ -20,12 +20,14 @@ import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindOrderCommand;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.predicates.OrderCheeseTypePredicate;
 import seedu.address.model.order.predicates.OrderCompletionStatusPredicate;
@@ -37,12 +39,12 @@ import seedu.address.model.util.predicate.CompositeFieldPredicateBuilder;
 public class FindOrderCommandParserTest {
 
     private FindOrderCommandParser parser;
-    private List<Customer> customerList;
+    private Map<CustomerId, Customer> customerIdMap;
 
     @BeforeEach
     public void setUp() {
-        customerList = getTypicalAddressBook().getCustomerList();
-        parser = new FindOrderCommandParser(customerList);
+        customerIdMap = getTypicalAddressBook().getCustomerIdMap();
+        parser = new FindOrderCommandParser(customerIdMap);
     }
 
     @Test
@@ -90,7 +92,7 @@ public class FindOrderCommandParserTest {
     public void parse_validCustomerNameArgs_returnsFindOrderCommand() {
         // Inputting a valid name argument, e,g, findorder n/Bob Choo
         CompositeFieldPredicate<Order> predicate = new CompositeFieldPredicateBuilder<Order>()
-                .compose(new OrderNamePredicate(splitToKeywordsList(VALID_NAME_BOB), customerList))
+                .compose(new OrderNamePredicate(splitToKeywordsList(VALID_NAME_BOB), customerIdMap))
                 .build();
         assertParseSuccess(
                 parser,
@@ -103,7 +105,7 @@ public class FindOrderCommandParserTest {
     public void parse_validCustomerPhoneArgs_returnsFindOrderCommand() {
         // Inputting a valid phone argument, e,g, findorder p/22222222
         CompositeFieldPredicate<Order> predicate = new CompositeFieldPredicateBuilder<Order>()
-                .compose(new OrderPhonePredicate(splitToKeywordsList(VALID_PHONE_BOB), customerList))
+                .compose(new OrderPhonePredicate(splitToKeywordsList(VALID_PHONE_BOB), customerIdMap))
                 .build();
         assertParseSuccess(
                 parser,
@@ -139,8 +141,8 @@ public class FindOrderCommandParserTest {
     public void parse_validAllArgs_returnsFindOrderCommand() {
         CompositeFieldPredicate<Order> predicate = new CompositeFieldPredicateBuilder<Order>()
                 .compose(new OrderCheeseTypePredicate(Collections.singletonList(VALID_CHEESE_TYPE_BRIE)))
-                .compose(new OrderNamePredicate(splitToKeywordsList(VALID_NAME_BOB), customerList))
-                .compose(new OrderPhonePredicate(splitToKeywordsList(VALID_PHONE_BOB), customerList))
+                .compose(new OrderNamePredicate(splitToKeywordsList(VALID_NAME_BOB), customerIdMap))
+                .compose(new OrderPhonePredicate(splitToKeywordsList(VALID_PHONE_BOB), customerIdMap))
                 .compose(new OrderCompletionStatusPredicate(VALID_ORDER_COMPLETE_STATUS))
                 .build();
 
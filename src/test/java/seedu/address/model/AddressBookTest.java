@@ -6,9 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.BRIE;
 import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
 import static seedu.address.testutil.TypicalCheese.FETA;
 import static seedu.address.testutil.TypicalCheese.GOUDA;
+import static seedu.address.testutil.TypicalCheese.MOZZARELLA;
 import static seedu.address.testutil.TypicalCustomers.ALICE;
 import static seedu.address.testutil.TypicalCustomers.BENSON;
 import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
@@ -17,20 +19,24 @@ import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
 import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT_2;
 import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
 import static seedu.address.testutil.TypicalOrder.ORDER_GOUDA;
+import static seedu.address.testutil.TypicalOrder.ORDER_MOZZARELLA;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.cheese.Cheese;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.CustomerId;
 import seedu.address.model.customer.exceptions.DuplicateCustomerException;
 import seedu.address.model.order.Order;
 import seedu.address.testutil.CheeseBuilder;
@@ -172,6 +178,90 @@ public class AddressBookTest {
             ), () -> addressBook.checkAddressBook());
     }
 
+    @Test
+    public void deleteCustomer_customerWithOrders_ordersAndAssignedCheesesDeleted() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.deleteCustomer(BENSON);
+
+        assertEquals(Arrays.asList(ORDER_BRIE, ORDER_CAMEMBERT, ORDER_MOZZARELLA),
+                typicalAddressBook.getOrderList());
+        assertEquals(Arrays.asList(CAMEMBERT, BRIE, MOZZARELLA, GOUDA), typicalAddressBook.getCheeseList());
+        typicalAddressBook.checkAddressBook();
+    }
+
+    @Test
+    public void deleteOrder_orderWithCheeses_assignedCheesesDeleted() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.deleteOrder(ORDER_FETA);
+
+        assertFalse(typicalAddressBook.getOrderList().contains(ORDER_FETA));
+        assertFalse(typicalAddressBook.hasCheese(FETA));
+        assertEquals(5, typicalAddressBook.getCheeseList().size());
+    }
+
+    @Test
+    public void batch_deleteCustomerWithOrders_listenersNotifiedOnceAfterAllChanges() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        int[] changeCount = {0};
+        ListChangeListener<Object> listener = change -> {
+            changeCount[0]++;
+            // By the time any list is notified, the cascade has been applied to every list
+            typicalAddressBook.checkAddressBook();
+        };
+        typicalAddressBook.getCustomerList().addListener(listener);
+        typicalAddressBook.getOrderList().addListener(listener);
+        typicalAddressBook.getCheeseList().addListener(listener);
+
+        typicalAddressBook.batch(() -> typicalAddressBook.deleteCustomer(BENSON));
+
+        assertEquals(3, changeCount[0]);
+    }
+
+    @Test
+    public void snapshot_addressBookModifiedAfterwards_snapshotUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBook original = new AddressBook(typicalAddressBook);
+        ReadOnlyAddressBook firstSnapshot = typicalAddressBook.snapshot();
+
+        typicalAddressBook.deleteCustomer(BENSON);
+        ReadOnlyAddressBook secondSnapshot = typicalAddressBook.snapshot();
+        Cheese newCheese = new CheeseBuilder().withCheeseType(BRIE.getCheeseType().value).build();
+        typicalAddressBook.addCheese(newCheese);
+        typicalAddressBook.updateCheesesStatus(Set.of(newCheese.getCheeseId()));
+        typicalAddressBook.deleteOrder(ORDER_MOZZARELLA);
+
+        assertEquals(original, new AddressBook(firstSnapshot));
+        assertEquals(original.getCustomerIdMap(), firstSnapshot.getCustomerIdMap());
+        assertFalse(secondSnapshot.getCustomerList().contains(BENSON));
+        assertFalse(secondSnapshot.getCheeseList().stream().anyMatch(newCheese::isSameCheese));
+        assertEquals(typicalAddressBook, new AddressBook(typicalAddressBook.snapshot()));
+    }
+
+    @Test
+    public void transaction_failsPartWay_addressBookUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBook original = new AddressBook(typicalAddressBook);
+        Cheese newCheese = new CheeseBuilder().withCheeseType(BRIE.getCheeseType().value).build();
+
+        assertThrows(DuplicateCustomerException.class, () -> typicalAddressBook.transaction(() -> {
+            typicalAddressBook.deleteCustomer(BENSON);
+            typicalAddressBook.addCheese(newCheese);
+            typicalAddressBook.updateCheesesStatus(Set.of(BRIE.getCheeseId(), newCheese.getCheeseId()));
+            typicalAddressBook.deleteOrder(ORDER_MOZZARELLA);
+            typicalAddressBook.addCustomer(ALICE);
+        }));
+
+        assertEquals(original, typicalAddressBook);
+        assertEquals(original.getUnassignedCheeseCount(BRIE.getCheeseType()),
+                typicalAddressBook.getUnassignedCheeseCount(BRIE.getCheeseType()));
+        typicalAddressBook.checkAddressBook();
+
+        // The indexes of the lists are restored along with their contents
+        typicalAddressBook.deleteCustomer(BENSON);
+        assertEquals(Arrays.asList(ORDER_BRIE, ORDER_CAMEMBERT, ORDER_MOZZARELLA),
+                typicalAddressBook.getOrderList());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose customers list can violate interface constraints.
      */
@@ -198,6 +288,16 @@ public class AddressBookTest {
         public ObservableList<Cheese> getCheeseList() {
             return cheeses;
         }
+
+        @Override
+        public Map<CustomerId, Customer> getCustomerIdMap() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookChange getLatestChange() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
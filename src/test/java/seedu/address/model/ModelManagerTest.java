@@ -3,8 +3,10 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CHEESES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CUSTOMERS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.FETA;
 import static seedu.address.testutil.TypicalCustomers.ALICE;
 import static seedu.address.testutil.TypicalCustomers.BENSON;
 
@@ -94,6 +96,25 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCustomerList().remove(0));
     }
 
+    @Test
+    public void updateFilteredCheeseList_insideTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.transaction(() -> {
+            modelManager.addCheese(FETA);
+            modelManager.updateFilteredCheeseList(PREDICATE_SHOW_ALL_CHEESES);
+        }));
+        assertFalse(modelManager.hasCheese(FETA));
+
+        // Allowed again once the transaction has ended
+        modelManager.updateFilteredCheeseList(PREDICATE_SHOW_ALL_CHEESES);
+    }
+
+    @Test
+    public void updateFilteredCustomerList_insideBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(() ->
+                modelManager.updateFilteredCustomerList(PREDICATE_SHOW_ALL_CUSTOMERS)));
+        modelManager.updateFilteredCustomerList(PREDICATE_SHOW_ALL_CUSTOMERS);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withCustomer(ALICE).withCustomer(BENSON).build();
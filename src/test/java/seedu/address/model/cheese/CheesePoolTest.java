@@ -0,0 +1,74 @@
+package seedu.address.model.cheese;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CheeseBuilder;
+
+public class CheesePoolTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+    private final Cheese expiresLater = new CheeseBuilder().withMaturityDate("2021-06-01 00:00")
+            .withExpiryDate("2023-01-01 00:00").build();
+    private final Cheese expiresSoonest = new CheeseBuilder().withMaturityDate("2021-06-01 00:00")
+            .withExpiryDate("2022-02-01 00:00").build();
+    private final Cheese neverExpires = new CheeseBuilder().withMaturityDate(null).withExpiryDate(null).build();
+    private final Cheese notMatured = new CheeseBuilder().withMaturityDate("2022-06-01 00:00")
+            .withExpiryDate("2022-07-01 00:00").build();
+
+    private final ColumnarCheeseList cheeses = new ColumnarCheeseList();
+    private final CheesePool pool = new CheesePool(cheeses);
+
+    @Test
+    public void getEligible_matureCheeses_soonestExpiryFirst() {
+        addToPool(neverExpires);
+        addToPool(expiresLater);
+        addToPool(expiresSoonest);
+
+        assertEquals(Set.of(expiresSoonest.getCheeseId()), pool.getEligible(1, NOW));
+        assertEquals(Set.of(expiresSoonest.getCheeseId(), expiresLater.getCheeseId()), pool.getEligible(2, NOW));
+        assertEquals(3, pool.getEligible(5, NOW).size());
+    }
+
+    @Test
+    public void getEligible_cheeseNotMatured_heldBackUntilMatured() {
+        addToPool(notMatured);
+        addToPool(expiresLater);
+
+        assertEquals(1, pool.countEligible(NOW));
+        assertEquals(Set.of(expiresLater.getCheeseId()), pool.getEligible(1, NOW));
+
+        LocalDateTime afterMaturity = LocalDateTime.of(2022, 7, 1, 0, 0);
+        assertEquals(2, pool.countEligible(afterMaturity));
+        assertEquals(Set.of(notMatured.getCheeseId()), pool.getEligible(1, afterMaturity));
+    }
+
+    @Test
+    public void remove_pooledCheeses_removedFromPool() {
+        addToPool(notMatured);
+        addToPool(expiresSoonest);
+
+        pool.remove(slotOf(expiresSoonest));
+        assertEquals(0, pool.countEligible(NOW));
+        assertFalse(pool.isEmpty());
+
+        pool.remove(slotOf(notMatured));
+        assertTrue(pool.isEmpty());
+    }
+
+    private void addToPool(Cheese cheese) {
+        cheeses.add(cheese);
+        pool.add(slotOf(cheese), NOW);
+    }
+
+    private int slotOf(Cheese cheese) {
+        return cheeses.getColumns().slotOfId(cheese.getCheeseId().value);
+    }
+}
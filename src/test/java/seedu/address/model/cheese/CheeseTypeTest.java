@@ -2,12 +2,20 @@ package seedu.address.model.cheese;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CHEESE_TYPE_BRIE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CHEESE_TYPE_CAMEMBERT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CHEESE_TYPE_FETA;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.Test;
 
 public class CheeseTypeTest {
@@ -39,6 +47,32 @@ public class CheeseTypeTest {
         assertTrue(fetaCheeseType == newFetaCheeseType);
     }
 
+    @Test
+    public void getOrdinal_distinctCheeseTypes_distinctOrdinals() {
+        CheeseType brie = CheeseType.getCheeseType(VALID_CHEESE_TYPE_BRIE);
+        CheeseType feta = CheeseType.getCheeseType(VALID_CHEESE_TYPE_FETA);
+        assertNotEquals(brie.getOrdinal(), feta.getOrdinal());
+        assertEquals(brie.getOrdinal(), CheeseType.getCheeseType(VALID_CHEESE_TYPE_BRIE).getOrdinal());
+    }
+
+    @Test
+    public void getCheeseType_concurrentCalls_returnsSameInstance() throws Exception {
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<CheeseType>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> CheeseType.getCheeseType("Concurrent Cheddar")));
+            }
+            CheeseType first = results.get(0).get();
+            for (Future<CheeseType> result : results) {
+                assertSame(first, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void isValidName() {
         // Null name
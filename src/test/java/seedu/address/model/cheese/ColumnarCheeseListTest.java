@@ -0,0 +1,88 @@
+package seedu.address.model.cheese;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalCheese.BRIE;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
+import static seedu.address.testutil.TypicalCheese.FETA;
+import static seedu.address.testutil.TypicalCheese.GOUDA;
+import static seedu.address.testutil.TypicalCheese.getTypicalCheeses;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.testutil.CheeseBuilder;
+
+public class ColumnarCheeseListTest {
+
+    private final ColumnarCheeseList cheeses = new ColumnarCheeseList();
+
+    @Test
+    public void get_addedCheeses_equalCheesesCreated() {
+        Cheese withoutDates = new CheeseBuilder().withMaturityDate(null).withExpiryDate(null).build();
+        Cheese madeNow = new Cheese(CheeseType.getCheeseType("Cheddar"), ManufactureDate.now(), null, null);
+        cheeses.addAll(getTypicalCheeses());
+        cheeses.add(withoutDates);
+        cheeses.add(madeNow);
+
+        List<Cheese> expected = new ArrayList<>(getTypicalCheeses());
+        expected.add(withoutDates);
+        expected.add(madeNow);
+        assertEquals(expected, cheeses);
+        assertNotSame(cheeses.get(0), cheeses.get(0));
+        assertEquals(CAMEMBERT.isCheeseAssigned(), cheeses.get(0).isCheeseAssigned());
+    }
+
+    @Test
+    public void removeAndInsert_cheesesInMiddle_slotsAndPositionsTracked() {
+        cheeses.setAll(getTypicalCheeses());
+        cheeses.remove(1);
+        cheeses.add(0, FETA);
+        cheeses.remove(BRIE);
+
+        CheeseColumns columns = cheeses.getColumns();
+        for (int i = 0; i < cheeses.size(); i++) {
+            int slot = columns.slotOfId(cheeses.get(i).getCheeseId().value);
+            assertEquals(i, columns.indexOfSlot(slot));
+            assertTrue(columns.matches(slot, cheeses.get(i)));
+        }
+        assertEquals(-1, columns.slotOfId(BRIE.getCheeseId().value));
+    }
+
+    @Test
+    public void removeSlotsIf_matchingSlots_removedInOneChange() {
+        cheeses.setAll(getTypicalCheeses());
+        int[] changeCount = {0};
+        cheeses.addListener((ListChangeListener<Cheese>) change -> changeCount[0]++);
+
+        CheeseColumns columns = cheeses.getColumns();
+        int brieSlot = columns.slotOfId(BRIE.getCheeseId().value);
+        int goudaSlot = columns.slotOfId(GOUDA.getCheeseId().value);
+        assertTrue(cheeses.removeSlotsIf(slot -> slot == brieSlot || slot == goudaSlot));
+
+        assertEquals(1, changeCount[0]);
+        List<Cheese> expected = new ArrayList<>(getTypicalCheeses());
+        expected.removeAll(List.of(BRIE, GOUDA));
+        assertEquals(expected, cheeses);
+    }
+
+    @Test
+    public void setAll_nonEmptyList_removedCheesesReported() {
+        cheeses.setAll(getTypicalCheeses());
+        List<Cheese> removed = new ArrayList<>();
+        cheeses.addListener((ListChangeListener<Cheese>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        cheeses.setAll(List.of(FETA));
+
+        assertEquals(getTypicalCheeses(), removed);
+        assertEquals(List.of(FETA), cheeses);
+    }
+}
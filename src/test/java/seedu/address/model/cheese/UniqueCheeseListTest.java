@@ -0,0 +1,150 @@
+package seedu.address.model.cheese;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.BRIE;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT;
+import static seedu.address.testutil.TypicalCheese.CAMEMBERT_2;
+import static seedu.address.testutil.TypicalCheese.FETA;
+import static seedu.address.testutil.TypicalCheese.GOUDA;
+import static seedu.address.testutil.TypicalCheese.MOZZARELLA;
+import static seedu.address.testutil.TypicalCheese.getTypicalCheeses;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.cheese.exceptions.DuplicateCheeseException;
+import seedu.address.model.order.Quantity;
+import seedu.address.model.util.ListEditListener;
+import seedu.address.model.util.UndoLog;
+import seedu.address.testutil.CheeseBuilder;
+
+public class UniqueCheeseListTest {
+
+    private final UniqueCheeseList uniqueCheeseList = new UniqueCheeseList();
+    private int changeCount = 0;
+
+    @Test
+    public void updateCheesesStatus_idsInReverseListOrder_allCheesesAssigned() {
+        uniqueCheeseList.setCheeses(getTypicalCheeses());
+        Set<CheeseId> cheeseIds = new LinkedHashSet<>(List.of(GOUDA.getCheeseId(), MOZZARELLA.getCheeseId(),
+                BRIE.getCheeseId()));
+
+        uniqueCheeseList.updateCheesesStatus(cheeseIds);
+
+        for (CheeseId cheeseId : cheeseIds) {
+            assertTrue(uniqueCheeseList.getCheeseWithId(cheeseId).isCheeseAssigned());
+        }
+        for (Cheese cheese : uniqueCheeseList) {
+            assertTrue(cheese.isCheeseAssigned());
+        }
+        assertEquals(0, uniqueCheeseList.getUnassignedCheeseCount(BRIE.getCheeseType()));
+        assertTrue(uniqueCheeseList.getUnassignedCheeses(GOUDA.getCheeseType(), new Quantity(1)).isEmpty());
+    }
+
+    @Test
+    public void updateCheesesStatus_manyCheeses_listenersNotifiedOnce() {
+        uniqueCheeseList.setCheeses(getTypicalCheeses());
+        uniqueCheeseList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Cheese>) change -> changeCount++);
+
+        uniqueCheeseList.updateCheesesStatus(Set.of(BRIE.getCheeseId(), GOUDA.getCheeseId()));
+
+        assertEquals(1, changeCount);
+        assertFalse(uniqueCheeseList.getCheeseWithId(MOZZARELLA.getCheeseId()).isCheeseAssigned());
+    }
+
+    @Test
+    public void deleteCheeses_someIdsInList_onlyThoseCheesesDeleted() {
+        uniqueCheeseList.setCheeses(getTypicalCheeses());
+        uniqueCheeseList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Cheese>) change -> changeCount++);
+
+        uniqueCheeseList.deleteCheeses(Set.of(GOUDA.getCheeseId(), BRIE.getCheeseId(), new CheeseId(999)));
+
+        assertFalse(uniqueCheeseList.contains(GOUDA));
+        assertFalse(uniqueCheeseList.contains(BRIE));
+        assertEquals(4, uniqueCheeseList.asUnmodifiableObservableList().size());
+        assertEquals(0, uniqueCheeseList.getUnassignedCheeseCount(BRIE.getCheeseType()));
+        assertEquals(1, changeCount);
+
+        // positions of the remaining cheeses are still tracked
+        uniqueCheeseList.delete(MOZZARELLA);
+        assertFalse(uniqueCheeseList.contains(MOZZARELLA));
+    }
+
+    @Test
+    public void setCheeses_listWithDuplicateIds_throwsDuplicateCheeseException() {
+        Cheese brieCopy = new CheeseBuilder(BRIE).withCheeseType("Gouda").build();
+        assertThrows(DuplicateCheeseException.class, () ->
+                uniqueCheeseList.setCheeses(List.of(BRIE, GOUDA, brieCopy)));
+    }
+
+    @Test
+    public void setCheese_cheeseIdChanged_indexesFollowNewId() {
+        uniqueCheeseList.setCheeses(getTypicalCheeses());
+        Cheese editedFeta = new CheeseBuilder(FETA).withCheeseId(99).build();
+
+        uniqueCheeseList.setCheese(FETA, editedFeta);
+
+        assertNull(uniqueCheeseList.getCheeseWithId(FETA.getCheeseId()));
+        assertEquals(editedFeta, uniqueCheeseList.getCheeseWithId(editedFeta.getCheeseId()));
+        assertEquals(List.of(CAMEMBERT, editedFeta, BRIE, MOZZARELLA, CAMEMBERT_2, GOUDA),
+                uniqueCheeseList.asUnmodifiableObservableList());
+
+        // The edited cheese is found at its position
+        uniqueCheeseList.delete(editedFeta);
+        assertEquals(List.of(CAMEMBERT, BRIE, MOZZARELLA, CAMEMBERT_2, GOUDA),
+                uniqueCheeseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void delete_cheeseBeforeOthers_laterPositionsStillFound() {
+        uniqueCheeseList.setCheeses(getTypicalCheeses());
+        Cheese assignedGouda = new CheeseBuilder(GOUDA).withAssignStatus(true).build();
+
+        uniqueCheeseList.delete(CAMEMBERT);
+        uniqueCheeseList.setCheese(GOUDA, assignedGouda);
+
+        assertNull(uniqueCheeseList.getCheeseWithId(CAMEMBERT.getCheeseId()));
+        assertEquals(assignedGouda, uniqueCheeseList.getCheeseWithId(GOUDA.getCheeseId()));
+        assertEquals(List.of(FETA, BRIE, MOZZARELLA, CAMEMBERT_2, assignedGouda),
+                uniqueCheeseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setCheeses_newCheeses_indexesReplaced() {
+        uniqueCheeseList.setCheeses(getTypicalCheeses());
+
+        uniqueCheeseList.setCheeses(List.of(GOUDA, BRIE));
+
+        assertNull(uniqueCheeseList.getCheeseWithId(FETA.getCheeseId()));
+        assertEquals(BRIE, uniqueCheeseList.getCheeseWithId(BRIE.getCheeseId()));
+        uniqueCheeseList.delete(BRIE);
+        assertEquals(List.of(GOUDA), uniqueCheeseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setCheeses_transactionRolledBack_previousCheesesRestored() {
+        UndoLog undoLog = new UndoLog();
+        UniqueCheeseList cheeses = new UniqueCheeseList(undoLog, ListEditListener.ignoringEdits());
+        cheeses.setCheeses(getTypicalCheeses());
+        List<Cheese> before = cheeses.snapshot();
+
+        assertThrows(DuplicateCheeseException.class, () -> undoLog.runTransaction(() -> {
+            cheeses.setCheeses(List.of(GOUDA));
+            cheeses.add(GOUDA);
+        }));
+
+        assertEquals(getTypicalCheeses(), cheeses.asUnmodifiableObservableList());
+        assertEquals(before, cheeses.snapshot());
+        assertTrue(cheeses.contains(BRIE));
+    }
+}
@@ -2,8 +2,10 @@ package seedu.address.model.customer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCustomers.ALICE;
@@ -109,6 +111,30 @@ public class UniqueCustomerListTest {
         assertThrows(DuplicateCustomerException.class, () -> uniqueCustomerList.setCustomer(ALICE, BOB));
     }
 
+    @Test
+    public void setCustomer_editedCustomerHasDifferentPhone_phoneIndexUpdated() {
+        uniqueCustomerList.add(ALICE);
+        Customer editedAlice = new CustomerBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        uniqueCustomerList.setCustomer(ALICE, editedAlice);
+
+        assertFalse(uniqueCustomerList.hasPhone(ALICE.getPhone()));
+        assertNull(uniqueCustomerList.getCustomerWithPhone(ALICE.getPhone()));
+        assertTrue(uniqueCustomerList.hasPhone(editedAlice.getPhone()));
+        assertEquals(editedAlice, uniqueCustomerList.getCustomerWithPhone(editedAlice.getPhone()));
+
+        // the old phone is free to be taken by another customer
+        uniqueCustomerList.add(ALICE);
+        assertEquals(ALICE, uniqueCustomerList.getCustomerWithPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void remove_existingCustomer_phoneIndexUpdated() {
+        uniqueCustomerList.add(ALICE);
+        uniqueCustomerList.delete(ALICE);
+        assertFalse(uniqueCustomerList.hasPhone(ALICE.getPhone()));
+        assertNull(uniqueCustomerList.getCustomerWithPhone(ALICE.getPhone()));
+    }
+
     @Test
     public void remove_nullCustomer_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueCustomerList.delete(null));
@@ -154,6 +180,8 @@ public class UniqueCustomerListTest {
         UniqueCustomerList expectedUniqueCustomerList = new UniqueCustomerList();
         expectedUniqueCustomerList.add(BOB);
         assertEquals(expectedUniqueCustomerList, uniqueCustomerList);
+        assertFalse(uniqueCustomerList.hasPhone(ALICE.getPhone()));
+        assertEquals(BOB, uniqueCustomerList.getCustomerWithPhone(BOB.getPhone()));
     }
 
     @Test
@@ -0,0 +1,80 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalOrder.ORDER_BRIE;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT;
+import static seedu.address.testutil.TypicalOrder.ORDER_CAMEMBERT_2;
+import static seedu.address.testutil.TypicalOrder.ORDER_FETA;
+import static seedu.address.testutil.TypicalOrder.ORDER_GOUDA;
+import static seedu.address.testutil.TypicalOrder.ORDER_MOZZARELLA;
+import static seedu.address.testutil.TypicalOrder.getTypicalOrders;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.exceptions.DuplicateOrderException;
+import seedu.address.testutil.OrderBuilder;
+
+public class UniqueOrderListTest {
+
+    private final UniqueOrderList uniqueOrderList = new UniqueOrderList();
+
+    @Test
+    public void contains_orderWithSameIdOfAnotherCustomer_returnsTrue() {
+        uniqueOrderList.setOrders(getTypicalOrders());
+        Order sameIdOrder = new OrderBuilder(ORDER_BRIE).withCustomerId(ALICE.getId()).build();
+
+        // An order that is reported as present is the one that add rejects
+        assertTrue(uniqueOrderList.contains(sameIdOrder));
+        assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.add(sameIdOrder));
+    }
+
+    @Test
+    public void setOrder_orderIdChanged_indexesFollowNewId() {
+        uniqueOrderList.setOrders(getTypicalOrders());
+        Order editedFeta = new OrderBuilder(ORDER_FETA).withOrderId(99).build();
+
+        uniqueOrderList.setOrder(ORDER_FETA, editedFeta);
+
+        assertNull(uniqueOrderList.getOrderWithId(ORDER_FETA.getOrderId()));
+        assertEquals(editedFeta, uniqueOrderList.getOrderWithId(editedFeta.getOrderId()));
+        assertEquals(List.of(ORDER_BRIE, ORDER_CAMEMBERT, editedFeta, ORDER_MOZZARELLA, ORDER_CAMEMBERT_2,
+                ORDER_GOUDA), uniqueOrderList.asUnmodifiableObservableList());
+
+        // The edited order is found at its position
+        uniqueOrderList.delete(editedFeta);
+        assertEquals(List.of(ORDER_BRIE, ORDER_CAMEMBERT, ORDER_MOZZARELLA, ORDER_CAMEMBERT_2, ORDER_GOUDA),
+                uniqueOrderList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void delete_orderBeforeOthers_laterPositionsStillFound() {
+        uniqueOrderList.setOrders(getTypicalOrders());
+        Order editedGouda = new OrderBuilder(ORDER_GOUDA).withQuantity(7).build();
+
+        uniqueOrderList.delete(ORDER_CAMEMBERT);
+        uniqueOrderList.setOrder(ORDER_GOUDA, editedGouda);
+
+        assertNull(uniqueOrderList.getOrderWithId(ORDER_CAMEMBERT.getOrderId()));
+        assertEquals(editedGouda, uniqueOrderList.getOrderWithId(ORDER_GOUDA.getOrderId()));
+        assertEquals(List.of(ORDER_BRIE, ORDER_FETA, ORDER_MOZZARELLA, ORDER_CAMEMBERT_2, editedGouda),
+                uniqueOrderList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setOrders_newOrders_indexesReplaced() {
+        uniqueOrderList.setOrders(getTypicalOrders());
+
+        uniqueOrderList.setOrders(List.of(ORDER_GOUDA, ORDER_BRIE));
+
+        assertNull(uniqueOrderList.getOrderWithId(ORDER_FETA.getOrderId()));
+        assertEquals(ORDER_BRIE, uniqueOrderList.getOrderWithId(ORDER_BRIE.getOrderId()));
+        uniqueOrderList.delete(ORDER_BRIE);
+        assertEquals(List.of(ORDER_GOUDA), uniqueOrderList.asUnmodifiableObservableList());
+    }
+}
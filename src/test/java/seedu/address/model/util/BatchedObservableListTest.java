@@ -0,0 +1,68 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private int changeCount = 0;
+
+    @Test
+    public void batch_manyModifications_listenersNotifiedOnce() {
+        list.setAll(List.of("a", "b", "c"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+
+        list.batch(() -> {
+            list.set(2, "z");
+            list.set(0, "x");
+            list.add("d");
+            list.remove(1);
+        });
+
+        assertEquals(List.of("x", "z", "d"), list);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void batch_nestedBatches_listenersNotifiedOnce() {
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+
+        list.batch(() -> {
+            list.add("a");
+            list.batch(() -> list.add("b"));
+            list.add("c");
+        });
+
+        assertEquals(List.of("a", "b", "c"), list);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void setAll_replacesContents_listenersNotifiedOnce() {
+        list.setAll(List.of("a", "b"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+
+        list.setAll(List.of("c"));
+        list.clear();
+
+        assertEquals(List.of(), list);
+        assertEquals(2, changeCount);
+    }
+
+    @Test
+    public void removeIf_matchingElements_removedAndListenersNotifiedOnce() {
+        list.setAll(List.of("a", "bb", "c", "dd", "ee", "f"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+
+        list.removeIf(element -> element.length() == 2);
+
+        assertEquals(List.of("a", "c", "f"), list);
+        assertEquals(1, changeCount);
+    }
+}
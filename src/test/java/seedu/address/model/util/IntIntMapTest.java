@@ -0,0 +1,68 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class IntIntMapTest {
+
+    private final IntIntMap map = new IntIntMap();
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        map.put(7, 1);
+        map.put(7, 2);
+        assertEquals(2, map.getOrDefault(7, -1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void getOrDefault_missingKey_returnsDefault() {
+        map.put(0, 5);
+        assertEquals(-1, map.getOrDefault(1, -1));
+        assertEquals(5, map.getOrDefault(0, -1));
+        assertFalse(map.containsKey(-1));
+    }
+
+    @Test
+    public void remove_keysInProbeSequence_remainingKeysFound() {
+        for (int i = 1; i <= 1000; i++) {
+            map.put(i, i * 2);
+        }
+        for (int i = 1; i <= 1000; i += 2) {
+            assertTrue(map.remove(i));
+        }
+
+        assertEquals(500, map.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i % 2 == 0 ? i * 2 : -1, map.getOrDefault(i, -1));
+        }
+        assertFalse(map.remove(1));
+    }
+
+    @Test
+    public void randomOperations_matchHashMap() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2000) - 100;
+            if (random.nextBoolean()) {
+                map.put(key, i);
+                expected.put(key, i);
+            } else {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = -100; key < 1900; key++) {
+            assertEquals((int) expected.getOrDefault(key, -1), map.getOrDefault(key, -1));
+        }
+    }
+}
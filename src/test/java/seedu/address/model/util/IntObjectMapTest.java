@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IntObjectMapTest {
+
+    private final IntObjectMap<String> map = new IntObjectMap<>();
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        assertNull(map.put(7, "a"));
+        assertEquals("a", map.put(7, "b"));
+        assertEquals("b", map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void get_missingKey_returnsNull() {
+        map.put(0, "zero");
+        assertNull(map.get(1));
+        assertEquals("zero", map.get(0));
+        assertFalse(map.containsKey(-1));
+    }
+
+    @Test
+    public void remove_keysInProbeSequence_remainingKeysFound() {
+        for (int i = 1; i <= 1000; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        for (int i = 1; i <= 1000; i += 2) {
+            assertEquals(String.valueOf(i), map.remove(i));
+        }
+
+        assertEquals(500, map.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i % 2 == 0, map.containsKey(i));
+        }
+        assertNull(map.remove(1));
+    }
+
+    @Test
+    public void randomOperations_matchHashMap() {
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2_000) - 100;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = -100; key < 1_900; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        Set<String> values = new HashSet<>();
+        map.forEachValue(values::add);
+        assertEquals(new HashSet<>(expected.values()), values);
+    }
+
+    @Test
+    public void clear_nonEmptyMap_becomesEmpty() {
+        map.put(3, "c");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(3));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IntSetTest {
+
+    private final IntSet set = new IntSet();
+
+    @Test
+    public void add_zeroAndDuplicates_countedOnce() {
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(0));
+    }
+
+    @Test
+    public void randomOperations_matchHashSet() {
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(2_000) - 100;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        int[] values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(), values);
+    }
+}
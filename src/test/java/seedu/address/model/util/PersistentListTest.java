@@ -0,0 +1,69 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        assertEquals(elements, PersistentList.of(elements));
+        assertEquals(List.of(), PersistentList.of(List.of()));
+    }
+
+    @Test
+    public void modify_earlierVersionsUnchanged() {
+        PersistentList<String> first = PersistentList.<String>empty().plus("a").plus("b").plus("c");
+        PersistentList<String> second = first.plus(1, "x");
+        PersistentList<String> third = second.with(0, "y").minus(3);
+
+        assertEquals(List.of("a", "b", "c"), first);
+        assertEquals(List.of("a", "x", "b", "c"), second);
+        assertEquals(List.of("y", "x", "b"), third);
+    }
+
+    @Test
+    public void indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(1));
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        Random random = new Random(0);
+        for (int i = 0; i < 50_000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+}
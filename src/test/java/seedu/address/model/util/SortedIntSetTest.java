@@ -0,0 +1,55 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.CheeseIdStub;
+import seedu.address.model.cheese.CheeseId;
+
+public class SortedIntSetTest {
+
+    @Test
+    public void of_unsortedValuesWithDuplicates_sortedDistinctValues() {
+        SortedIntSet set = SortedIntSet.of(5, 1, 3, 5, 1);
+
+        assertArrayEquals(new int[] {1, 3, 5}, set.toArray());
+        assertEquals(3, set.size());
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(4));
+        assertEquals(SortedIntSet.of(3, 1, 5), set);
+    }
+
+    @Test
+    public void of_noValues_returnsEmpty() {
+        assertSame(SortedIntSet.EMPTY, SortedIntSet.of());
+        assertTrue(SortedIntSet.ofIds(Set.of()).isEmpty());
+    }
+
+    @Test
+    public void toArray_modifyArray_setUnchanged() {
+        SortedIntSet set = SortedIntSet.of(2, 4);
+        set.toArray()[0] = 9;
+        assertArrayEquals(new int[] {2, 4}, set.toArray());
+    }
+
+    @Test
+    public void asUnmodifiableIdSet_equalsSetOfSameIds() {
+        Set<CheeseId> idSet = SortedIntSet.ofIds(Set.of(CheeseIdStub.getNextId(3), CheeseIdStub.getNextId(1)))
+                .asUnmodifiableIdSet(CheeseId::valueOf);
+
+        assertEquals(Set.of(CheeseIdStub.getNextId(1), CheeseIdStub.getNextId(3)), idSet);
+        assertEquals(idSet, Set.of(CheeseIdStub.getNextId(1), CheeseIdStub.getNextId(3)));
+        assertEquals(List.of(CheeseId.valueOf(1), CheeseId.valueOf(3)), List.copyOf(idSet));
+        assertFalse(idSet.contains(CheeseId.valueOf(2)));
+        assertThrows(UnsupportedOperationException.class, () -> idSet.add(CheeseId.valueOf(2)));
+    }
+}
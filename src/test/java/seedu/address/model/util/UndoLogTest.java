@@ -0,0 +1,81 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class UndoLogTest {
+
+    private final UndoLog undoLog = new UndoLog();
+    private final List<String> undone = new ArrayList<>();
+
+    @Test
+    public void record_outsideTransaction_notRecorded() {
+        assertFalse(undoLog.isRecording());
+        undoLog.record(() -> undone.add("a"));
+        assertThrows(IllegalStateException.class, () -> undoLog.runTransaction(() -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(undone.isEmpty());
+    }
+
+    @Test
+    public void runTransaction_throws_undoneInReverseOrderAndRethrown() {
+        assertThrows(IllegalStateException.class, () -> undoLog.runTransaction(() -> {
+            undoLog.record(() -> undone.add("first"));
+            undoLog.record(() -> undone.add("second"));
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(List.of("second", "first"), undone);
+        assertFalse(undoLog.isRecording());
+    }
+
+    @Test
+    public void runTransaction_succeeds_nothingUndoneLater() {
+        undoLog.runTransaction(() -> undoLog.record(() -> undone.add("committed")));
+        assertThrows(IllegalStateException.class, () -> undoLog.runTransaction(() -> {
+            throw new IllegalStateException();
+        }));
+        assertTrue(undone.isEmpty());
+    }
+
+    @Test
+    public void runTransaction_nestedTransactionThrows_outerTransactionRolledBack() {
+        assertThrows(IllegalStateException.class, () -> undoLog.runTransaction(() -> {
+            undoLog.record(() -> undone.add("outer"));
+            undoLog.runTransaction(() -> {
+                undoLog.record(() -> undone.add("inner"));
+                throw new IllegalStateException();
+            });
+        }));
+
+        assertEquals(List.of("inner", "outer"), undone);
+    }
+
+    @Test
+    public void takeJournal_journaling_undoesEverythingSinceLastTaken() {
+        undoLog.setJournaling(true);
+        undoLog.record(() -> undone.add("taken"));
+        undoLog.takeJournal();
+
+        undoLog.record(() -> undone.add("first"));
+        undoLog.runTransaction(() -> undoLog.record(() -> undone.add("second")));
+        assertThrows(IllegalStateException.class, () -> undoLog.runTransaction(() -> {
+            undoLog.record(() -> undone.add("rolled back"));
+            throw new IllegalStateException();
+        }));
+        assertEquals(List.of("rolled back"), undone);
+        undone.clear();
+
+        undoLog.takeJournal().orElseThrow().run();
+        assertEquals(List.of("second", "first"), undone);
+        assertTrue(undoLog.takeJournal().isEmpty());
+    }
+}
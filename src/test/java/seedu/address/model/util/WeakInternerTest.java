@@ -0,0 +1,44 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class WeakInternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<Tag>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        WeakInterner<Tag> interner = new WeakInterner<>();
+        Tag first = new Tag(new String("friends"));
+        Tag second = new Tag(new String("friends"));
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertNotSame(first, interner.intern(new Tag("colleagues")));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_interningDisabled_returnsSameValue() {
+        Tag first = ValueInterner.intern(new Tag(new String("neighbours")));
+        Tag second = new Tag(new String("neighbours"));
+        assertSame(first, ValueInterner.intern(second));
+
+        ValueInterner.setEnabled(false);
+        try {
+            assertSame(second, ValueInterner.intern(second));
+        } finally {
+            ValueInterner.setEnabled(true);
+        }
+    }
+}
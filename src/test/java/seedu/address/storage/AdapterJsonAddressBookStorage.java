@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code JsonAddressBookStorage} that saves and loads every record through the {@code JsonAdapted*} classes,
+ * rather than serializing the model's records directly, so that the two can be compared.
+ */
+public class AdapterJsonAddressBookStorage extends JsonAddressBookStorage {
+
+    public AdapterJsonAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (!jsonAddressBook.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonAddressBook.get().toModelType());
+        } catch (IllegalValueException | IllegalArgumentException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+}
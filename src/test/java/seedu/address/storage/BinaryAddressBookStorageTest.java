@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.HOON;
+import static seedu.address.testutil.TypicalCustomers.IDA;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addCustomer(HOON);
+        original.deleteCustomer(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addCustomer(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+
+        byte[] damaged = content.clone();
+        damaged[content.length / 2] ^= 1;
+        Files.write(filePath, damaged);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() {
+        byte[] content = {'C', 'H', 'I', 'M', (byte) (BinaryAddressBookStorage.FORMAT_VERSION + 1)};
+        assertThrows(java.io.IOException.class, () -> BinaryAddressBookStorage.decode(content));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalCustomers.HOON;
+import static seedu.address.testutil.TypicalCustomers.IDA;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.CustomerBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a snapshot and an empty journal
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+
+        // Changes are appended to the journal, and the snapshot is left alone
+        String snapshot = Files.readString(filePath);
+        original.addCustomer(HOON);
+        original.setCustomer(BENSON, new CustomerBuilder(BENSON).withAddress("1 Cheese Lane").build());
+        storage.saveAddressBook(original);
+        original.addCustomer(IDA);
+        original.deleteCustomer(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Saving without changes does not write anything
+        String journal = Files.readString(journalFilePath);
+        storage.saveAddressBook(original);
+        assertEquals(journal, Files.readString(journalFilePath));
+
+        // A new storage for the same file writes a snapshot on its first save
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        reopened.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalTooLong_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+
+        storage.saveAddressBook(original);
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        original.addCustomer(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+
+        // The snapshot is replaced as if a rewrite was interrupted before the journal was emptied
+        AddressBook other = getTypicalAddressBook();
+        other.addCustomer(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(other);
+        assertEquals(other, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastChange_changeIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(journalFilePath, "{\"section\":\"CUSTOMERS\",\"kind\":\"INS", StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidChange_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(journalFilePath, "{\"section\":\"CUSTOMERS\",\"kind\":\"REMOVE\",\"index\":100}\n",
+                StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath)
+                .saveAddressBook(null));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalCheese.BRIE;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalOrder.ORDER_BRIE;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.cheese.Cheese;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.Name;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Quantity;
+
+public class JsonModelModuleTest {
+
+    @BeforeEach
+    public void setUp() {
+        JsonUtil.registerModule(new JsonModelModule());
+    }
+
+    @Test
+    public void serialize_sameJsonAsAdapters() throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonAdaptedCustomer(BENSON)), JsonUtil.toJsonString(BENSON));
+        assertEquals(JsonUtil.toJsonString(new JsonAdaptedCheese(BRIE)), JsonUtil.toJsonString(BRIE));
+        assertEquals(JsonUtil.toJsonString(new JsonAdaptedOrder(ORDER_BRIE)), JsonUtil.toJsonString(ORDER_BRIE));
+    }
+
+    @Test
+    public void deserialize_validDetails_returnsModelType() throws Exception {
+        assertEquals(BENSON, JsonUtil.fromJsonString(JsonUtil.toJsonString(BENSON), Customer.class));
+        assertEquals(BRIE, JsonUtil.fromJsonString(JsonUtil.toJsonString(BRIE), Cheese.class));
+        assertEquals(ORDER_BRIE, JsonUtil.fromJsonString(JsonUtil.toJsonString(ORDER_BRIE), Order.class));
+    }
+
+    @Test
+    public void deserialize_nullName_throwsSameMessageAsAdapter() {
+        String json = "{\"phone\":\"98765432\",\"email\":\"a@example.com\",\"address\":\"1 Road\",\"customerId\":1}";
+        JsonMappingException e = assertThrows(JsonMappingException.class, () ->
+                JsonUtil.fromJsonString(json, Customer.class));
+        assertEquals(String.format(JsonAdaptedCustomer.MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()),
+                JsonModelModule.getIllegalValue(e).getMessage());
+    }
+
+    @Test
+    public void deserialize_invalidQuantity_throwsSameMessageAsAdapter() throws Exception {
+        String json = JsonUtil.toJsonString(ORDER_BRIE).replaceFirst("\"quantity\" : \\d+", "\"quantity\" : -1");
+        JsonMappingException e = assertThrows(JsonMappingException.class, () ->
+                JsonUtil.fromJsonString(json, Order.class));
+        assertEquals(Quantity.MESSAGE_CONSTRAINTS, JsonModelModule.getIllegalValue(e).getMessage());
+    }
+}
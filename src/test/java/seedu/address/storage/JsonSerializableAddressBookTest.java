@@ -2,12 +2,18 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheese.BRIE;
+import static seedu.address.testutil.TypicalCustomers.CARL;
+import static seedu.address.testutil.TypicalOrder.ORDER_BRIE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -29,6 +35,22 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalCustomersAddressBook);
     }
 
+    @Test
+    public void readModelType_typicalFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(TYPICAL_CUSTOMERS_FILE)) {
+            AddressBook addressBookFromFile = JsonSerializableAddressBook.readModelType(parser);
+            assertEquals(TypicalModels.getTypicalAddressBook(), addressBookFromFile);
+        }
+    }
+
+    @Test
+    public void readModelType_duplicateCustomers_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(DUPLICATE_CUSTOMER_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CUSTOMER,
+                    () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
     @Test
     public void toModelType_invalidCustomerFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_CUSTOMER_FILE,
@@ -44,4 +66,20 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateCheeses_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(),
+                List.of(new JsonAdaptedCheese(BRIE), new JsonAdaptedCheese(BRIE)), List.of());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_CHEESE,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateOrders_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(new JsonAdaptedCustomer(CARL)),
+                List.of(), List.of(new JsonAdaptedOrder(ORDER_BRIE), new JsonAdaptedOrder(ORDER_BRIE)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ORDER,
+                data::toModelType);
+    }
+
 }
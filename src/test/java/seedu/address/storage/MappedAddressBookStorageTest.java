@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.HOON;
+import static seedu.address.testutil.TypicalCustomers.IDA;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.customer.Customer;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("addressBook.map"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.map");
+        assertFalse(new MappedAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(MappedAddressBookStorage.isMappedFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.map");
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        assertTrue(MappedAddressBookStorage.isMappedFile(filePath));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addCustomer(HOON);
+        original.deleteCustomer(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addCustomer(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_lazyCustomers_equalToSavedCustomers() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.map");
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        for (int i = 0; i < original.getCustomerList().size(); i++) {
+            Customer expected = original.getCustomerList().get(i);
+            Customer actual = readBack.getCustomerList().get(i);
+            assertTrue(actual instanceof LazyCustomer);
+            assertEquals(expected.getEmail(), actual.getEmail());
+            assertEquals(expected.getAddress(), actual.getAddress());
+            assertEquals(expected.hashCode(), actual.hashCode());
+            assertEquals(expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_rightAfterRead_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.map");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // Reading leaves nothing holding the file, so the save can replace it
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addCustomer(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEmailWithValidChecksum_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.map");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] content = Files.readAllBytes(filePath);
+        byte[] email = ALICE.getEmail().value.getBytes(StandardCharsets.UTF_8);
+        int emailStart = indexOf(content, email);
+        content[emailStart + ALICE.getEmail().value.indexOf('@')] = '#';
+        CRC32 checksum = new CRC32();
+        checksum.update(content, 0, content.length - Integer.BYTES);
+        ByteBuffer.wrap(content).putInt(content.length - Integer.BYTES, (int) checksum.getValue());
+        Files.write(filePath, content);
+
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(MappedAddressBookStorage.isMappedFile(filePath));
+        assertThrows(DataConversionException.class, () -> new MappedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.map");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+
+        byte[] damaged = content.clone();
+        damaged[content.length / 2] ^= 1;
+        Files.write(filePath, damaged);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIoException() {
+        ByteBuffer content = ByteBuffer.allocate(64);
+        content.put(new byte[] {'C', 'H', 'I', 'F'}).putInt(MappedAddressBookStorage.FORMAT_VERSION + 1);
+        assertThrows(IOException.class, () -> MappedAddressBookStorage.decode(content.clear()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("addressBook.map"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static int indexOf(byte[] content, byte[] target) {
+        for (int i = 0; i + target.length <= content.length; i++) {
+            if (Arrays.equals(content, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Not found in file");
+    }
+}
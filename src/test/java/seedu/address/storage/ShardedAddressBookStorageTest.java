@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.HOON;
+import static seedu.address.testutil.TypicalCustomers.IDA;
+import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.CheeseBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(ShardedAddressBookStorage.isShardedFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        assertTrue(ShardedAddressBookStorage.isShardedFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addCustomer(HOON);
+        original.deleteCustomer(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addCustomer(IDA);
+        storage.saveAddressBook(original);
+        readBack = new ShardedAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(3, listShards().size());
+    }
+
+    @Test
+    public void saveAddressBook_oneListChanged_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        List<String> shards = listShards();
+
+        original.addCustomer(HOON);
+        storage.saveAddressBook(original);
+        List<String> changedShards = listShards();
+        assertEquals(shards.size(), changedShards.size());
+        assertNotEquals(shards.stream().filter(name -> name.contains(".customers.")).findFirst(),
+                changedShards.stream().filter(name -> name.contains(".customers.")).findFirst());
+        assertEquals(shards.stream().filter(name -> !name.contains(".customers.")).collect(Collectors.toList()),
+                changedShards.stream().filter(name -> !name.contains(".customers.")).collect(Collectors.toList()));
+
+        // An unchanged address book rewrites nothing
+        storage.saveAddressBook(original);
+        assertEquals(changedShards, listShards());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangedShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        List<String> shards = listShards();
+
+        // The address book saved after a read is a copy of what was read, so its changes are found by comparing
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        assertEquals(shards, listShards());
+
+        addressBook.addCheese(new CheeseBuilder().build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(shards.stream().filter(name -> !name.contains(".cheeses.")).collect(Collectors.toList()),
+                listShards().stream().filter(name -> !name.contains(".cheeses.")).collect(Collectors.toList()));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_shardsNotInManifest_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        // A save that stopped before writing its manifest leaves shards that the manifest does not list
+        Files.writeString(testFolder.resolve("addressBook.json.customers.2.json"), "{\"customers\": [");
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path customerShard = testFolder.resolve(listShards().stream()
+                .filter(name -> name.contains(".customers.")).findFirst().get());
+
+        Files.writeString(customerShard, Files.readString(customerShard).replace("Alice", "Alicia"));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+
+        Files.delete(customerShard);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(ShardedAddressBookStorage.isShardedFile(filePath));
+        assertThrows(DataConversionException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void deleteShards_shardsPresent_allDeleted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ShardedAddressBookStorage.deleteShards(filePath);
+        assertTrue(listShards().isEmpty());
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private List<String> listShards() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith("addressBook.json.") || name.startsWith("TempAddressBook.json."))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.HOON;
 import static seedu.address.testutil.TypicalModels.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Config.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.GuiSettings.PanelToShow;
 import seedu.address.model.AddressBook;
@@ -17,6 +26,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 public class StorageManagerTest {
+    private static final RuntimeException DUMMY_RUNTIME_EXCEPTION = new IllegalStateException("dummy exception");
 
     @TempDir
     public Path testFolder;
@@ -61,9 +71,119 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookSaveInBackground() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(original.snapshot());
+        original.addCustomer(HOON);
+        storageManager.saveAddressBookInBackground(original.snapshot());
+        storageManager.flushAddressBook();
+
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+        assertFalse(storageManager.takeAddressBookSaveFailure().isPresent());
+    }
+
+    @Test
+    public void addressBookSaveInBackground_storageThrowsRuntimeException_failureReported() throws Exception {
+        storageManager = new StorageManager(new JsonAddressBookRuntimeExceptionThrowingStub(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storageManager.saveAddressBookInBackground(getTypicalAddressBook().snapshot());
+
+        // The writer is not left busy, so flushing returns
+        assertThrows(IOException.class, storageManager::flushAddressBook);
+        assertEquals(DUMMY_RUNTIME_EXCEPTION, storageManager.takeAddressBookSaveFailure().get().getCause());
+
+        // Later saves are still written
+        storageManager.saveAddressBookInBackground(getTypicalAddressBook().snapshot());
+        assertThrows(IOException.class, storageManager::flushAddressBook);
+    }
+
+    @Test
+    public void convertAddressBook_toBinary_savedAndDetectedAsBinary() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        assertEquals(Optional.of(AddressBookFormat.JSON),
+                StorageManager.detectAddressBookFormat(getTempFilePath("ab")));
+
+        storageManager.convertAddressBook(original.snapshot(), AddressBookFormat.BINARY);
+        assertEquals(Optional.of(AddressBookFormat.BINARY),
+                StorageManager.detectAddressBookFormat(getTempFilePath("ab")));
+
+        // Later saves are in the new format
+        original.addCustomer(HOON);
+        storageManager.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(getTempFilePath("ab")));
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void convertAddressBook_toMapped_savedAndDetectedAsMapped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.convertAddressBook(original.snapshot(), AddressBookFormat.MAPPED);
+        assertEquals(Optional.of(AddressBookFormat.MAPPED),
+                StorageManager.detectAddressBookFormat(getTempFilePath("ab")));
+
+        original.addCustomer(HOON);
+        storageManager.saveAddressBook(original);
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void convertAddressBook_fromJournal_journalDeleted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.convertAddressBook(original.snapshot(), AddressBookFormat.JOURNAL);
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(getTempFilePath("ab"));
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(Optional.of(AddressBookFormat.JOURNAL),
+                StorageManager.detectAddressBookFormat(getTempFilePath("ab")));
+
+        storageManager.convertAddressBook(original.snapshot(), AddressBookFormat.JSON);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(Optional.of(AddressBookFormat.JSON),
+                StorageManager.detectAddressBookFormat(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void convertAddressBook_fromSharded_shardsDeleted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.convertAddressBook(original.snapshot(), AddressBookFormat.SHARDED);
+        assertEquals(Optional.of(AddressBookFormat.SHARDED),
+                StorageManager.detectAddressBookFormat(getTempFilePath("ab")));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+
+        storageManager.convertAddressBook(original.snapshot(), AddressBookFormat.JSON);
+        try (Stream<Path> files = Files.list(getTempFilePath("ab").getParent())) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().startsWith("ab.")));
+        }
+        assertEquals(Optional.of(AddressBookFormat.JSON),
+                StorageManager.detectAddressBookFormat(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void detectAddressBookFormat_missingFile_empty() throws Exception {
+        assertFalse(StorageManager.detectAddressBookFormat(getTempFilePath("missing")).isPresent());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    /**
+     * A stub class to throw a {@code RuntimeException} when the save method is called.
+     */
+    private static class JsonAddressBookRuntimeExceptionThrowingStub extends JsonAddressBookStorage {
+        private JsonAddressBookRuntimeExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw DUMMY_RUNTIME_EXCEPTION;
+        }
+    }
+
 }